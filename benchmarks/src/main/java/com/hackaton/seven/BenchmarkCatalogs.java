@@ -0,0 +1,51 @@
+package com.hackaton.seven;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+// Catalogs used by the benchmarks: "real" is the bundled catalog, a number is a SyntheticCatalog of
+// that many recipes (and a tenth as many exercises, at least 1000). Synthetic catalogs are written
+// once under java.io.tmpdir and read back through Catalog.fromCsv like a real one.
+final class BenchmarkCatalogs {
+
+    private static final long SEED = SyntheticCatalog.DEFAULT_SEED;
+
+    private BenchmarkCatalogs() {
+    }
+
+    static Catalog catalog(String size) {
+        try {
+            if ("real".equals(size)) {
+                return Catalog.fromClasspath();
+            }
+            return synthetic(Integer.parseInt(size));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static Catalog synthetic(int recipeCount) throws IOException {
+        int exerciseCount = Math.max(1_000, recipeCount / 10);
+        Path directory = Paths.get(System.getProperty("java.io.tmpdir"), "seven-catalogs",
+                recipeCount + "-" + exerciseCount + "-" + SEED);
+        return SyntheticCatalog.load(directory, recipeCount, exerciseCount, SEED);
+    }
+
+    static Set<String> diet(String profile) {
+        switch (profile) {
+            case "vegan":
+                return Collections.singleton("vegan");
+            case "gluten_free":
+                return Collections.singleton("gluten_free");
+            default:
+                return Collections.emptySet();
+        }
+    }
+
+    static Set<String> allergies(String profile) {
+        return "dairy_allergy".equals(profile) ? Collections.singleton("dairy") : Collections.emptySet();
+    }
+}
@@ -0,0 +1,57 @@
+package com.hackaton.seven;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Filter + calorie-distance scan over the recipe columns, scalar loops versus the Vector API.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-modules=jdk.incubator.vector"})
+public class ColumnScanBenchmark {
+
+    @Param({"10000", "1000000"})
+    public String catalogSize;
+
+    @Param({"none", "vegan", "dairy_allergy"})
+    public String profile;
+
+    @Param({"scalar", "vector"})
+    public String kernel;
+
+    private RecipeColumns columns;
+    private RecipeScan scan;
+    private RestrictionMask restrictions;
+    private int[] positions;
+    private double[] distances;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Recommender recommender = new Recommender(BenchmarkCatalogs.catalog(catalogSize));
+        restrictions = recommender.compileRestrictions(BenchmarkCatalogs.diet(profile), BenchmarkCatalogs.allergies(profile));
+        columns = recommender.recipeColumns();
+        scan = "vector".equals(kernel) ? new VectorRecipeScan() : new ScalarRecipeScan();
+        positions = new int[columns.rows.length];
+        distances = new double[columns.rows.length];
+    }
+
+    @Benchmark
+    public int filter() {
+        return scan.filter(columns.dietMasks, columns.allergyMasks, 0, columns.rows.length,
+                restrictions.requiredDiet, restrictions.excludedAllergies, positions);
+    }
+
+    @Benchmark
+    public double[] calorieDistances() {
+        scan.calorieDistances(columns.calories, 0, columns.rows.length, 650, distances);
+        return distances;
+    }
+
+    @Benchmark
+    public int scanClosest() {
+        return columns.scanClosest("lunch", 650, restrictions, new Recipe[5]);
+    }
+}
@@ -0,0 +1,50 @@
+package com.hackaton.seven;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Candidate pool for "lunch with tofu, no mushrooms": bitmap index versus a per-recipe check.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class IngredientFilterBenchmark {
+
+    @Param({"10000", "1000000"})
+    public String catalogSize;
+
+    @Param({"none", "vegan"})
+    public String profile;
+
+    private RecipeIndex index;
+    private RestrictionMask restrictions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Recommender recommender = new Recommender(BenchmarkCatalogs.catalog(catalogSize));
+        index = recommender.snapshot().recipes;
+        restrictions = recommender.snapshot().compile(BenchmarkCatalogs.diet(profile), Collections.emptySet(),
+                Set.of("tofu"), Set.of("mushrooms"));
+    }
+
+    @Benchmark
+    public CandidatePool bitmapIndex() {
+        return index.filter("lunch", restrictions);
+    }
+
+    @Benchmark
+    public int recipeByRecipe() {
+        int count = 0;
+        for (Recipe r : index.recipes("lunch")) {
+            if (r.matchesRestrictions(restrictions)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
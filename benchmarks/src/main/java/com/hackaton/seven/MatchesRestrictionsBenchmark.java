@@ -0,0 +1,56 @@
+package com.hackaton.seven;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Restriction check over the whole bundled catalog, set based versus compiled masks.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchesRestrictionsBenchmark {
+
+    @Param({"none", "vegan", "gluten_free", "dairy_allergy"})
+    public String profile;
+
+    private Recipe[] recipes;
+    private Set<String> diet;
+    private Set<String> allergies;
+    private RestrictionMask restrictions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Catalog catalog = BenchmarkCatalogs.catalog("real");
+        Recommender recommender = new Recommender(catalog);
+        recipes = catalog.recipes.toArray(new Recipe[0]);
+        diet = BenchmarkCatalogs.diet(profile);
+        allergies = BenchmarkCatalogs.allergies(profile);
+        restrictions = recommender.compileRestrictions(diet, allergies);
+    }
+
+    @Benchmark
+    public int matchesRestrictionsSets() {
+        int matches = 0;
+        for (Recipe r : recipes) {
+            if (r.matchesRestrictions(diet, allergies)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int matchesRestrictionsMasks() {
+        int matches = 0;
+        for (Recipe r : recipes) {
+            if (r.matchesRestrictions(restrictions)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
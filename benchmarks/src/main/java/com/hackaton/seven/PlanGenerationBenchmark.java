@@ -0,0 +1,69 @@
+package com.hackaton.seven;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-modules=jdk.incubator.vector"})
+public class PlanGenerationBenchmark {
+
+    @Param({"real", "10000", "1000000"})
+    public String catalogSize;
+
+    @Param({"none", "vegan", "gluten_free", "dairy_allergy"})
+    public String profile;
+
+    private Recommender recommender;
+    private Set<String> diet;
+    private Set<String> allergies;
+    private RestrictionMask restrictions;
+    private MealRanking balanced;
+
+    @State(Scope.Thread)
+    public static class Rng {
+        final SplittableRandom random = new SplittableRandom(7L);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        recommender = new Recommender(BenchmarkCatalogs.catalog(catalogSize));
+        diet = BenchmarkCatalogs.diet(profile);
+        allergies = BenchmarkCatalogs.allergies(profile);
+        restrictions = recommender.compileRestrictions(diet, allergies);
+        balanced = new MealRanking();
+        balanced.balanceWeight = 1;
+        balanced.proteinTarget = 30;
+    }
+
+    @Benchmark
+    public Recipe getRandomMeal(Rng rng) {
+        return recommender.getRandomMeal("lunch", 650, diet, allergies, rng.random);
+    }
+
+    @Benchmark
+    public Recipe getRandomMealCompiled(Rng rng) {
+        return recommender.getRandomMeal("lunch", 650, restrictions, rng.random);
+    }
+
+    @Benchmark
+    public Recipe getRandomMealRanked(Rng rng) {
+        return recommender.getRandomMeal("lunch", 650, restrictions, balanced, rng.random);
+    }
+
+    @Benchmark
+    public Exercise getRandomExercise(Rng rng) {
+        return recommender.getRandomExercise("upper_body", "None", "Medium", rng.random);
+    }
+
+    @Benchmark
+    public Object generateWeeklyPlanWithExercise() {
+        return recommender.generateWeeklyPlanWithExercise(2000, diet, allergies, "None", "Medium");
+    }
+}
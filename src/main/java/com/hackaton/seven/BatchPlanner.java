@@ -0,0 +1,76 @@
+package com.hackaton.seven;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+// Generates weekly plans for many users at once. Every plan goes through the same code as a single
+// request with the same options, so a user gets the week a one-off request with their profile and
+// seed would give; users with the same restrictions share candidate pools through the recommender's
+// pool cache. Input is consumed in chunks whose plans are sampled in parallel and then handed to
+// the sink in input order, so memory stays bounded by the chunk size. Each chunk is planned against
+// one catalog snapshot; a reload takes effect at the next chunk boundary.
+final class BatchPlanner {
+
+    static final int CHUNK_SIZE = 4096;
+
+    private final Recommender recommender;
+    private final ForkJoinPool pool;
+    private final PlanOptions options;
+    private volatile CatalogSnapshot catalog;
+
+    BatchPlanner(Recommender recommender, ForkJoinPool pool) {
+        this(recommender, pool, PlanOptions.defaults());
+    }
+
+    BatchPlanner(Recommender recommender, ForkJoinPool pool, PlanOptions options) {
+        this.recommender = recommender;
+        this.pool = pool;
+        this.options = options;
+    }
+
+    void generate(Iterator<UserProfile> profiles, BiConsumer<UserProfile, Map<String, DailyPlan>> sink) {
+        UserProfile[] chunk = new UserProfile[CHUNK_SIZE];
+        // Each task sets its own index only; join() publishes the writes
+        List<Map<String, DailyPlan>> plans = new ArrayList<>(Collections.nCopies(CHUNK_SIZE, null));
+
+        while (profiles.hasNext()) {
+            int size = 0;
+            while (size < CHUNK_SIZE && profiles.hasNext()) {
+                chunk[size++] = profiles.next();
+            }
+            startChunk();
+
+            int n = size;
+            pool.submit(() -> IntStream.range(0, n).parallel()
+                    .forEach(i -> plans.set(i, plan(chunk[i], chunk[i].random())))).join();
+
+            for (int i = 0; i < n; i++) {
+                sink.accept(chunk[i], plans.get(i));
+                chunk[i] = null;
+                plans.set(i, null);
+            }
+        }
+    }
+
+    // Picks up a reloaded catalog; call before planning each chunk when driving plan() directly.
+    void startChunk() {
+        catalog = recommender.snapshot();
+    }
+
+    Map<String, DailyPlan> plan(UserProfile profile, RandomGenerator rand) {
+        return recommender.generateWeeklyPlanWithExercise(catalog, profile, rand, options);
+    }
+
+    // The plan() picks for the same seed, as ids into catalog().
+    CompactPlan planCompact(UserProfile profile, long seed) {
+        return recommender.generateCompactPlan(catalog, profile, 7, seed, options);
+    }
+
+    // The snapshot of the current chunk.
+    CatalogSnapshot catalog() {
+        return catalog;
+    }
+}
@@ -0,0 +1,145 @@
+package com.hackaton.seven;
+
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+// Compact binary catalog snapshot. Every distinct string is stored once in a string table and
+// records refer to it by index, so loading is one mapped bulk read plus a table decode.
+//
+//   int magic, int version, int stringCount, int recipeCount, int exerciseCount
+//   stringCount x (int byteLength, UTF-8 bytes)
+//   recipeCount x (int name, int mealType, int n, n x int dietTag, int n, n x int allergy,
+//                  double calories, double carbs, double protein, double fats, int n, n x int ingredient)
+//   exerciseCount x (int name, int equipment, int intensity, int category)
+final class BinaryCatalog {
+
+    static final int MAGIC = 0x53564e43; // "SVNC"
+    static final int VERSION = 1;
+
+    private BinaryCatalog() {
+    }
+
+    static void write(Catalog catalog, Path target) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (Recipe r : catalog.recipes) {
+            intern(strings, r.name);
+            intern(strings, r.mealType);
+            r.dietaryTags.forEach(s -> intern(strings, s));
+            r.allergies.forEach(s -> intern(strings, s));
+            r.ingredients.forEach(s -> intern(strings, s));
+        }
+        for (Exercise e : catalog.exercises) {
+            intern(strings, e.name);
+            intern(strings, e.equipment);
+            intern(strings, e.intensity);
+            intern(strings, e.category);
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(target), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(strings.size());
+            out.writeInt(catalog.recipes.size());
+            out.writeInt(catalog.exercises.size());
+            for (String s : strings.keySet()) {
+                byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            for (Recipe r : catalog.recipes) {
+                out.writeInt(strings.get(r.name));
+                out.writeInt(strings.get(r.mealType));
+                writeList(out, strings, r.dietaryTags);
+                writeList(out, strings, r.allergies);
+                out.writeDouble(r.calories);
+                out.writeDouble(r.carbs);
+                out.writeDouble(r.protein);
+                out.writeDouble(r.fats);
+                writeList(out, strings, r.ingredients);
+            }
+            for (Exercise e : catalog.exercises) {
+                out.writeInt(strings.get(e.name));
+                out.writeInt(strings.get(e.equipment));
+                out.writeInt(strings.get(e.intensity));
+                out.writeInt(strings.get(e.category));
+            }
+        }
+    }
+
+    static Catalog map(Path source) throws IOException {
+        MappedByteBuffer buf;
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buf.remaining() < 20 || buf.getInt() != MAGIC) {
+            throw new IOException(source + " is not a catalog snapshot");
+        }
+        int version = buf.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported catalog snapshot version " + version + " in " + source);
+        }
+        int stringCount = buf.getInt();
+        int recipeCount = buf.getInt();
+        int exerciseCount = buf.getInt();
+
+        String[] strings = new String[stringCount];
+        byte[] scratch = new byte[256];
+        for (int i = 0; i < stringCount; i++) {
+            int length = buf.getInt();
+            if (length > scratch.length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            buf.get(scratch, 0, length);
+            strings[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+
+        List<Recipe> recipes = new ArrayList<>(recipeCount);
+        for (int i = 0; i < recipeCount; i++) {
+            String name = strings[buf.getInt()];
+            String mealType = strings[buf.getInt()];
+            List<String> dietaryTags = readList(buf, strings);
+            List<String> allergies = readList(buf, strings);
+            double calories = buf.getDouble();
+            double carbs = buf.getDouble();
+            double protein = buf.getDouble();
+            double fats = buf.getDouble();
+            List<String> ingredients = readList(buf, strings);
+            recipes.add(new Recipe(name, mealType, dietaryTags, allergies, calories, carbs, protein, fats, ingredients));
+        }
+
+        List<Exercise> exercises = new ArrayList<>(exerciseCount);
+        for (int i = 0; i < exerciseCount; i++) {
+            exercises.add(new Exercise(strings[buf.getInt()], strings[buf.getInt()], strings[buf.getInt()], strings[buf.getInt()]));
+        }
+        return new Catalog(recipes, exercises);
+    }
+
+    private static void intern(Map<String, Integer> strings, String s) {
+        strings.putIfAbsent(s, strings.size());
+    }
+
+    private static void writeList(DataOutputStream out, Map<String, Integer> strings, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String v : values) {
+            out.writeInt(strings.get(v));
+        }
+    }
+
+    private static List<String> readList(MappedByteBuffer buf, String[] strings) {
+        int size = buf.getInt();
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        String[] values = new String[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = strings[buf.getInt()];
+        }
+        return Arrays.asList(values);
+    }
+}
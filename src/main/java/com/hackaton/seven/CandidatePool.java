@@ -0,0 +1,94 @@
+package com.hackaton.seven;
+
+// Recipes of one meal type that satisfy one restriction signature, ordered by calories.
+final class CandidatePool {
+
+    static final CandidatePool EMPTY = new CandidatePool(null, new Recipe[0]);
+
+    final RecipeIndex source;
+    final Recipe[] recipes;
+    final double[] calories;
+    // Static ranking inputs, laid out next to calories for the ranking scan
+    final double[] balance;
+    final double[] protein;
+    final double[] carbs;
+    final double maxBalance;
+
+    CandidatePool(RecipeIndex source, Recipe[] recipes) {
+        this.source = source;
+        this.recipes = recipes;
+        this.calories = new double[recipes.length];
+        this.balance = new double[recipes.length];
+        this.protein = new double[recipes.length];
+        this.carbs = new double[recipes.length];
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < recipes.length; i++) {
+            calories[i] = recipes[i].calories;
+            balance[i] = recipes[i].balance;
+            protein[i] = recipes[i].protein;
+            carbs[i] = recipes[i].carbs;
+            max = Math.max(max, balance[i]);
+        }
+        this.maxBalance = max;
+    }
+
+    int size() {
+        return recipes.length;
+    }
+
+    // Fills out with up to out.length recipes, closest to targetCalories first. Returns how many were written.
+    int collectClosest(double targetCalories, Recipe[] out) {
+        return collectClosest(targetCalories, out, null);
+    }
+
+    // As above, skipping recipes the variety tracker has already used (when one is given).
+    int collectClosest(double targetCalories, Recipe[] out, VarietyTracker variety) {
+        int hi = RecipeIndex.lowerBound(calories, targetCalories);
+        int lo = hi - 1;
+        int count = 0;
+        while (count < out.length && (lo >= 0 || hi < recipes.length)) {
+            Recipe next;
+            if (hi >= recipes.length || (lo >= 0 && targetCalories - calories[lo] <= calories[hi] - targetCalories)) {
+                next = recipes[lo--];
+            } else {
+                next = recipes[hi++];
+            }
+            if (variety == null || !variety.isUsed(next)) {
+                out[count++] = next;
+            }
+        }
+        return count;
+    }
+
+    // Fills out with up to out.length recipes of lowest ranking cost. Returns how many were written.
+    // Candidates are visited outward from targetCalories and the walk stops once the calorie term
+    // alone, minus the best possible balance bonus, can no longer beat the worst recipe kept.
+    int collectRanked(double targetCalories, MealRanking ranking, Recipe[] out, VarietyTracker variety) {
+        if (ranking.isCaloriesOnly()) {
+            return collectClosest(targetCalories, out, variety);
+        }
+        TopK best = new TopK(out.length);
+        double bonusBound = ranking.balanceWeight * maxBalance;
+        int hi = RecipeIndex.lowerBound(calories, targetCalories);
+        int lo = hi - 1;
+        while (lo >= 0 || hi < recipes.length) {
+            int i;
+            if (hi >= recipes.length || (lo >= 0 && targetCalories - calories[lo] <= calories[hi] - targetCalories)) {
+                i = lo--;
+            } else {
+                i = hi++;
+            }
+            if (best.isFull() && ranking.calorieWeight * Math.abs(calories[i] - targetCalories) - bonusBound >= best.worst()) {
+                break;
+            }
+            if (variety != null && variety.isUsed(recipes[i])) {
+                continue;
+            }
+            best.offer(i, ranking.cost(this, i, targetCalories));
+        }
+        for (int k = 0; k < best.size(); k++) {
+            out[k] = recipes[best.position(k)];
+        }
+        return best.size();
+    }
+}
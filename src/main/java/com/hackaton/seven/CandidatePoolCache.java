@@ -0,0 +1,132 @@
+package com.hackaton.seven;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// Bounded LRU cache of candidate pools keyed by (meal type, diet mask, allergy mask, included and
+// excluded ingredient ids). The compiled masks are the normalized form of the user's sets: order,
+// duplicates and allergens no recipe carries do not produce new keys. The cache is split into
+// independently locked segments so concurrent requests rarely contend.
+final class CandidatePoolCache {
+
+    static final int DEFAULT_CAPACITY = 1024;
+    static final int SEGMENTS = 16;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    CandidatePoolCache(int capacity) {
+        int perSegment = Math.max(1, (capacity + SEGMENTS - 1) / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+    }
+
+    // Cached pool for the key, computed by loader on a miss. Pools built from another index than
+    // current (a previous catalog) count as misses and are replaced.
+    CandidatePool get(Key key, RecipeIndex current, Function<Key, CandidatePool> loader) {
+        Segment segment = segments[segment(key)];
+        CandidatePool pool;
+        synchronized (segment) {
+            pool = segment.get(key);
+        }
+        if (pool != null && pool.source == current) {
+            hits.increment();
+            return pool;
+        }
+        misses.increment();
+        pool = loader.apply(key);
+        synchronized (segment) {
+            segment.put(key, pool);
+        }
+        return pool;
+    }
+
+    void invalidate() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    // Index of the segment holding key.
+    static int segment(Key key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (SEGMENTS - 1);
+    }
+
+    static final class Key {
+        final String mealType;
+        final long diet;
+        final long allergies;
+        final int[] include;
+        final int[] exclude;
+
+        Key(String mealType, RestrictionMask restrictions) {
+            this.mealType = RecipeIndex.normalize(mealType);
+            this.diet = restrictions.requiredDiet;
+            this.allergies = restrictions.excludedAllergies;
+            this.include = restrictions.includedIngredients;
+            this.exclude = restrictions.excludedIngredients;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return diet == other.diet && allergies == other.allergies && mealType.equals(other.mealType)
+                    && Arrays.equals(include, other.include) && Arrays.equals(exclude, other.exclude);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 31 * (31 * mealType.hashCode() + Long.hashCode(diet)) + Long.hashCode(allergies);
+            return 31 * (31 * h + Arrays.hashCode(include)) + Arrays.hashCode(exclude);
+        }
+    }
+
+    private static final class Segment extends LinkedHashMap<Key, CandidatePool> {
+        // Never serialized; declared because LinkedHashMap is Serializable
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, CandidatePool> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.hackaton.seven;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+// The recipe and exercise catalog a Recommender is built from.
+//   -Dcatalog.snapshot=catalog.bin                                memory-maps a compiled snapshot
+//   -Dcatalog.recipes=recipes.csv -Dcatalog.exercises=ex.csv      reads CSV files
+// Without either, the CSV files bundled under /catalog on the classpath are used.
+final class Catalog {
+
+    static final String SNAPSHOT_PROPERTY = "catalog.snapshot";
+    static final String RECIPES_PROPERTY = "catalog.recipes";
+    static final String EXERCISES_PROPERTY = "catalog.exercises";
+
+    final List<Recipe> recipes;
+    final List<Exercise> exercises;
+
+    Catalog(List<Recipe> recipes, List<Exercise> exercises) {
+        this.recipes = Collections.unmodifiableList(recipes);
+        this.exercises = Collections.unmodifiableList(exercises);
+    }
+
+    static Catalog load() {
+        try {
+            String snapshot = System.getProperty(SNAPSHOT_PROPERTY);
+            if (snapshot != null) {
+                return BinaryCatalog.map(Paths.get(snapshot));
+            }
+            String recipes = System.getProperty(RECIPES_PROPERTY);
+            String exercises = System.getProperty(EXERCISES_PROPERTY);
+            if (recipes != null && exercises != null) {
+                return fromCsv(Paths.get(recipes), Paths.get(exercises));
+            }
+            return fromClasspath();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load catalog", e);
+        }
+    }
+
+    // Files load() reads from, empty when the catalog comes from the classpath.
+    static List<Path> sourceFiles() {
+        String snapshot = System.getProperty(SNAPSHOT_PROPERTY);
+        if (snapshot != null) {
+            return List.of(Paths.get(snapshot));
+        }
+        String recipes = System.getProperty(RECIPES_PROPERTY);
+        String exercises = System.getProperty(EXERCISES_PROPERTY);
+        if (recipes != null && exercises != null) {
+            return List.of(Paths.get(recipes), Paths.get(exercises));
+        }
+        return List.of();
+    }
+
+    static Catalog fromCsv(Path recipes, Path exercises) throws IOException {
+        try (BufferedReader recipeReader = Files.newBufferedReader(recipes, StandardCharsets.UTF_8);
+             BufferedReader exerciseReader = Files.newBufferedReader(exercises, StandardCharsets.UTF_8)) {
+            return new Catalog(CatalogCsv.readRecipes(recipeReader), CatalogCsv.readExercises(exerciseReader));
+        }
+    }
+
+    static Catalog fromClasspath() throws IOException {
+        try (BufferedReader recipeReader = openResource("/catalog/recipes.csv");
+             BufferedReader exerciseReader = openResource("/catalog/exercises.csv")) {
+            return new Catalog(CatalogCsv.readRecipes(recipeReader), CatalogCsv.readExercises(exerciseReader));
+        }
+    }
+
+    private static BufferedReader openResource(String name) throws IOException {
+        InputStream in = Catalog.class.getResourceAsStream(name);
+        if (in == null) {
+            throw new FileNotFoundException("Catalog resource " + name + " is not on the classpath");
+        }
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,22 @@
+package com.hackaton.seven;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// Compiles catalog CSV files into a binary snapshot that can be loaded with -Dcatalog.snapshot.
+//   java com.hackaton.seven.CatalogCompiler recipes.csv exercises.csv catalog.bin
+public class CatalogCompiler {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: CatalogCompiler <recipes.csv> <exercises.csv> <snapshot.bin>");
+            System.exit(2);
+        }
+        Catalog catalog = Catalog.fromCsv(Paths.get(args[0]), Paths.get(args[1]));
+        Path target = Paths.get(args[2]);
+        BinaryCatalog.write(catalog, target);
+        System.out.println("Wrote " + catalog.recipes.size() + " recipes and " + catalog.exercises.size()
+                + " exercises to " + target);
+    }
+}
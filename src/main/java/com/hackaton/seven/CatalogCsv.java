@@ -0,0 +1,95 @@
+package com.hackaton.seven;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.*;
+
+// Reads catalog CSV files. The first line is a header; list columns are separated by ';'.
+//   recipes:   name,mealType,dietaryTags,allergies,calories,carbs,protein,fats,ingredients
+//   exercises: name,equipment,intensity,category
+final class CatalogCsv {
+
+    private static final int RECIPE_COLUMNS = 9;
+    private static final int EXERCISE_COLUMNS = 4;
+
+    private CatalogCsv() {
+    }
+
+    static List<Recipe> readRecipes(BufferedReader reader) throws IOException {
+        List<Recipe> recipes = new ArrayList<>();
+        String line = reader.readLine(); // header
+        int lineNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> f = parseLine(line, RECIPE_COLUMNS, lineNumber);
+            try {
+                recipes.add(new Recipe(f.get(0), f.get(1), splitList(f.get(2)), splitList(f.get(3)),
+                        Double.parseDouble(f.get(4)), Double.parseDouble(f.get(5)),
+                        Double.parseDouble(f.get(6)), Double.parseDouble(f.get(7)),
+                        splitList(f.get(8))));
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid number on recipe line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return recipes;
+    }
+
+    static List<Exercise> readExercises(BufferedReader reader) throws IOException {
+        List<Exercise> exercises = new ArrayList<>();
+        String line = reader.readLine(); // header
+        int lineNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> f = parseLine(line, EXERCISE_COLUMNS, lineNumber);
+            exercises.add(new Exercise(f.get(0), f.get(1), f.get(2), f.get(3)));
+        }
+        return exercises;
+    }
+
+    static List<String> splitList(String value) {
+        if (value.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(value.split(";"));
+    }
+
+    // Splits one CSV line, honouring double-quoted fields with "" escapes.
+    static List<String> parseLine(String line, int expectedColumns, int lineNumber) throws IOException {
+        List<String> fields = new ArrayList<>(expectedColumns);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        if (quoted || fields.size() != expectedColumns) {
+            throw new IOException("Expected " + expectedColumns + " columns on line " + lineNumber + " but found " + fields.size());
+        }
+        return fields;
+    }
+}
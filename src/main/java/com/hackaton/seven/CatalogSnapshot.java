@@ -0,0 +1,57 @@
+package com.hackaton.seven;
+
+import java.util.Set;
+
+// One immutable generation of the catalog together with the indexes built from it. A Recommender
+// publishes a new snapshot with a single volatile write; each request reads the field once and
+// works against that snapshot to the end, so a reload never mixes recipes, ids or restriction
+// masks from two catalogs inside one plan.
+final class CatalogSnapshot {
+
+    final long version;
+    // Identifies the catalog content across processes: records holding recipe and exercise ids
+    // (stored plans) can only be resolved against a snapshot with the same fingerprint.
+    final long fingerprint;
+    final Catalog catalog;
+    final RecipeIndex recipes;
+    final ExerciseIndex exercises;
+
+    CatalogSnapshot(Catalog catalog, long version) {
+        this(catalog, version, new IngredientVocabulary());
+    }
+
+    // Ingredient ids carry over from the previous snapshot so that plans made on it stay countable.
+    CatalogSnapshot(Catalog catalog, CatalogSnapshot previous) {
+        this(catalog, previous.version + 1, new IngredientVocabulary(previous.recipes.ingredients()));
+    }
+
+    private CatalogSnapshot(Catalog catalog, long version, IngredientVocabulary ingredients) {
+        this.version = version;
+        this.catalog = catalog;
+        this.recipes = new RecipeIndex(catalog.recipes, ingredients);
+        this.exercises = new ExerciseIndex(catalog.exercises);
+        this.fingerprint = fingerprint(catalog);
+    }
+
+    private static long fingerprint(Catalog catalog) {
+        long h = 1125899906842597L;
+        for (Recipe r : catalog.recipes) {
+            h = 31 * h + r.name.hashCode();
+            h = 31 * h + r.mealType.hashCode();
+        }
+        for (Exercise e : catalog.exercises) {
+            h = 31 * h + e.name.hashCode();
+            h = 31 * h + e.category.hashCode();
+        }
+        return h;
+    }
+
+    // Masks are only meaningful for the snapshot whose vocabularies compiled them.
+    RestrictionMask compile(Set<String> diet, Set<String> allergies) {
+        return recipes.compile(diet, allergies);
+    }
+
+    RestrictionMask compile(Set<String> diet, Set<String> allergies, Set<String> include, Set<String> exclude) {
+        return recipes.compile(diet, allergies, include, exclude);
+    }
+}
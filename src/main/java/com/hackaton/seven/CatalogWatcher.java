@@ -0,0 +1,96 @@
+package com.hackaton.seven;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Reloads a Recommender when one of the catalog files changes. Events are debounced so that the
+// recipe and exercise CSVs can be replaced together, then the new snapshot is built on this
+// background thread and published by Recommender.reload. A catalog that fails to load is reported
+// and the running snapshot stays in place. Replace files by rename: a memory-mapped snapshot must
+// not be rewritten in place while it is served.
+final class CatalogWatcher implements AutoCloseable {
+
+    static final long QUIET_MILLIS = 500;
+
+    private final Recommender recommender;
+    private final Supplier<Catalog> loader;
+    private final Set<Path> files = new HashSet<>();
+    private final WatchService watchService;
+    private final Thread thread;
+
+    CatalogWatcher(Recommender recommender, List<Path> files, Supplier<Catalog> loader) throws IOException {
+        this.recommender = recommender;
+        this.loader = loader;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        Set<Path> directories = new HashSet<>();
+        for (Path file : files) {
+            Path absolute = file.toAbsolutePath().normalize();
+            this.files.add(absolute);
+            directories.add(absolute.getParent());
+        }
+        for (Path directory : directories) {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        }
+        this.thread = new Thread(this::run, "catalog-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    @Override
+    public void close() throws IOException {
+        thread.interrupt();
+        watchService.close();
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                if (!drain(watchService.take())) {
+                    continue;
+                }
+                // Wait until the files have been quiet for a while before reading them
+                WatchKey next;
+                while ((next = watchService.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    drain(next);
+                }
+                reload();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closed
+        }
+    }
+
+    // True if any event in the key concerns one of the catalog files.
+    private boolean drain(WatchKey key) {
+        Path directory = (Path) key.watchable();
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                relevant = true;
+            } else if (files.contains(directory.resolve((Path) event.context()))) {
+                relevant = true;
+            }
+        }
+        key.reset();
+        return relevant;
+    }
+
+    private void reload() {
+        try {
+            long start = System.nanoTime();
+            recommender.reload(loader.get());
+            CatalogSnapshot snapshot = recommender.snapshot();
+            System.out.println("Catalog reloaded: version " + snapshot.version + ", "
+                    + snapshot.catalog.recipes.size() + " recipes, " + snapshot.catalog.exercises.size()
+                    + " exercises in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+        } catch (RuntimeException e) {
+            System.err.println("Catalog reload failed, keeping version " + recommender.snapshot().version + ": " + e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.hackaton.seven;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// A plan as dense catalog ids rather than objects: one int per slot, SLOTS_PER_DAY per day in
+// PlanSlot order, -1 for a "No suitable ..." placeholder. A week is a 49-int array instead of a
+// map of seven DailyPlans, so this is the form plans are kept, stored and sent in. Recipes and
+// exercises are only looked up, in the catalog the plan was generated from, when it is rendered.
+final class CompactPlan {
+
+    static final int SLOTS_PER_DAY = PlanSlot.values().length;
+
+    final long seed;
+    // CatalogSnapshot.fingerprint of the catalog the ids index into
+    final long catalogFingerprint;
+    private final int[] ids;
+
+    CompactPlan(long seed, long catalogFingerprint, int[] ids) {
+        if (ids.length % SLOTS_PER_DAY != 0) {
+            throw new IllegalArgumentException("Expected " + SLOTS_PER_DAY + " ids per day, got " + ids.length + " ids");
+        }
+        this.seed = seed;
+        this.catalogFingerprint = catalogFingerprint;
+        this.ids = ids;
+    }
+
+    static CompactPlan of(CatalogSnapshot catalog, long seed, Map<String, DailyPlan> plan) {
+        return of(catalog, seed, plan.values().iterator(), plan.size());
+    }
+
+    // Rejects days that were not generated from catalog (for instance across a reload), since their
+    // ids would resolve to other recipes.
+    static CompactPlan of(CatalogSnapshot catalog, long seed, Iterator<DailyPlan> days, int dayCount) {
+        int[] ids = new int[dayCount * SLOTS_PER_DAY];
+        int i = 0;
+        while (days.hasNext()) {
+            DailyPlan day = days.next();
+            if (i == ids.length) {
+                throw new IllegalArgumentException("More than " + dayCount + " days");
+            }
+            for (PlanSlot slot : PlanSlot.values()) {
+                int id = slot.isMeal() ? recipeId(catalog, slot.recipe(day)) : exerciseId(catalog, slot.exercise(day));
+                ids[i++] = id;
+            }
+        }
+        if (i != ids.length) {
+            throw new IllegalArgumentException("Expected " + dayCount + " days, got " + i / SLOTS_PER_DAY);
+        }
+        return new CompactPlan(seed, catalog.fingerprint, ids);
+    }
+
+    private static int recipeId(CatalogSnapshot catalog, Recipe r) {
+        if (r.id >= 0 && (r.id >= catalog.catalog.recipes.size() || catalog.catalog.recipes.get(r.id) != r)) {
+            throw new IllegalArgumentException("Plan was not generated from catalog version " + catalog.version);
+        }
+        return r.id;
+    }
+
+    private static int exerciseId(CatalogSnapshot catalog, Exercise e) {
+        if (e.id >= 0 && (e.id >= catalog.catalog.exercises.size() || catalog.catalog.exercises.get(e.id) != e)) {
+            throw new IllegalArgumentException("Plan was not generated from catalog version " + catalog.version);
+        }
+        return e.id;
+    }
+
+    int days() {
+        return ids.length / SLOTS_PER_DAY;
+    }
+
+    // day is 0-based
+    int id(int day, PlanSlot slot) {
+        return ids[day * SLOTS_PER_DAY + slot.ordinal()];
+    }
+
+    // A copy with one slot (day is 0-based) replaced.
+    CompactPlan withId(int day, PlanSlot slot, int id) {
+        int[] copy = ids.clone();
+        copy[day * SLOTS_PER_DAY + slot.ordinal()] = id;
+        return new CompactPlan(seed, catalogFingerprint, copy);
+    }
+
+    // False once the catalog has been replaced; regenerate from seed in that case.
+    boolean matches(CatalogSnapshot catalog) {
+        return catalog.fingerprint == catalogFingerprint;
+    }
+
+    Recipe recipe(CatalogSnapshot catalog, int day, PlanSlot slot) {
+        int id = id(day, slot);
+        return id < 0 ? Recipe.placeholder(slot.key) : catalog.catalog.recipes.get(id);
+    }
+
+    // Placeholders do not keep the equipment and intensity they were asked for.
+    Exercise exercise(CatalogSnapshot catalog, int day, PlanSlot slot) {
+        int id = id(day, slot);
+        return id < 0 ? Exercise.placeholder(slot.key, "", "") : catalog.catalog.exercises.get(id);
+    }
+
+    // Resolves one day into into, which can be reused across days.
+    DailyPlan day(CatalogSnapshot catalog, int day, DailyPlan into) {
+        for (PlanSlot slot : PlanSlot.values()) {
+            if (slot.isMeal()) {
+                slot.set(into, recipe(catalog, day, slot));
+            } else {
+                slot.set(into, exercise(catalog, day, slot));
+            }
+        }
+        return into;
+    }
+
+    // The plan as "Day N" -> DailyPlan, or null when catalog is not the one it was generated from.
+    Map<String, DailyPlan> resolve(CatalogSnapshot catalog) {
+        if (!matches(catalog)) {
+            return null;
+        }
+        Map<String, DailyPlan> plan = new LinkedHashMap<>();
+        for (int d = 0; d < days(); d++) {
+            plan.put("Day " + (d + 1), day(catalog, d, new DailyPlan()));
+        }
+        return plan;
+    }
+
+    // The ids as ints starting at offset; the day count is not written.
+    void writeIds(ByteBuffer out, int offset) {
+        for (int i = 0; i < ids.length; i++) {
+            out.putInt(offset + i * Integer.BYTES, ids[i]);
+        }
+    }
+
+    static CompactPlan readIds(ByteBuffer in, int offset, int days, long seed, long catalogFingerprint) {
+        int[] ids = new int[days * SLOTS_PER_DAY];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = in.getInt(offset + i * Integer.BYTES);
+        }
+        return new CompactPlan(seed, catalogFingerprint, ids);
+    }
+}
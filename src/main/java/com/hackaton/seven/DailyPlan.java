@@ -10,10 +10,8 @@ public class DailyPlan {
     Exercise cardio;
 
     public String toString() {
-        return String.format(
-                "\n🍳 Breakfast: %s\n🥗 Lunch: %s\n🍽️ Dinner: %s\n" +
-                        "🏋️ Exercises:\n - Upper Body: %s\n - Lower Body: %s\n - Core: %s\n - Cardio: %s",
-                breakfast, lunch, dinner, upper, lower, core, cardio
-        );
+        StringBuilder out = new StringBuilder(512);
+        PlanRenderer.appendDayText(out, this);
+        return out.toString();
     }
 }
@@ -0,0 +1,150 @@
+package com.hackaton.seven;
+
+import java.util.random.RandomGenerator;
+
+// Chooses a breakfast, lunch and dinner whose combined calories fall inside
+// [target - tolerance, target + tolerance]. A breakfast is drawn from the range that can still
+// reach the band, then every lunch/dinner pair completing it is counted with a two-pointer sweep
+// over the calorie-sorted pools and one of them is drawn uniformly. Each attempt is
+// O(lunches + dinners), so a whole week stays well under a millisecond on large catalogs.
+final class DaySolver {
+
+    private static final int ATTEMPTS = 8;
+    private static final int WIDENINGS = 3;
+
+    private DaySolver() {
+    }
+
+    // Writes breakfast, lunch and dinner into out[0..2]. Returns false if any pool is empty.
+    // When no triple fits the band, the closest triple found for a central breakfast is used.
+    static boolean solve(CandidatePool breakfasts, CandidatePool lunches, CandidatePool dinners,
+                         double target, double tolerance, RandomGenerator rand, Recipe[] out) {
+        return solve(breakfasts, lunches, dinners, target, tolerance, rand, null, out);
+    }
+
+    // With a variety tracker, triples reusing a served recipe are rejected. If every triple drawn
+    // repeats something, the band is doubled up to WIDENINGS times; only then is the first
+    // in-band triple accepted despite the repeat. The closest-triple fallback, used when nothing at
+    // all fits the band, ignores the tracker: it is deterministic for a given pool and target, so it
+    // serves the same triple every day that reaches it.
+    static boolean solve(CandidatePool breakfasts, CandidatePool lunches, CandidatePool dinners,
+                         double target, double tolerance, RandomGenerator rand, VarietyTracker variety, Recipe[] out) {
+        if (breakfasts.size() == 0 || lunches.size() == 0 || dinners.size() == 0) {
+            return false;
+        }
+        double[] b = breakfasts.calories;
+        double[] l = lunches.calories;
+        double[] d = dinners.calories;
+        double minPair = l[0] + d[0];
+        double maxPair = l[l.length - 1] + d[d.length - 1];
+
+        Recipe[] repeating = null;
+        int rounds = variety == null ? 1 : WIDENINGS + 1;
+        double band = tolerance;
+        for (int round = 0; round < rounds; round++, band *= 2) {
+            // Breakfasts for which some lunch/dinner pair could still land in the band
+            int from = RecipeIndex.lowerBound(b, target - band - maxPair);
+            int to = RecipeIndex.upperBound(b, target + band - minPair);
+            for (int attempt = 0; attempt < ATTEMPTS && from < to; attempt++) {
+                int bi = from + rand.nextInt(to - from);
+                if (variety != null && variety.isUsed(breakfasts.recipes[bi])) {
+                    continue;
+                }
+                double lo = target - band - b[bi];
+                double hi = target + band - b[bi];
+                long pairs = countPairs(l, d, lo, hi);
+                if (pairs > 0) {
+                    out[0] = breakfasts.recipes[bi];
+                    selectPair(l, d, lo, hi, rand.nextLong(pairs), lunches, dinners, out);
+                    if (variety == null || !(variety.isUsed(out[1]) || variety.isUsed(out[2]))) {
+                        return true;
+                    }
+                    if (repeating == null && round == 0) {
+                        repeating = out.clone();
+                    }
+                }
+            }
+        }
+        if (repeating != null) {
+            System.arraycopy(repeating, 0, out, 0, 3);
+            return true;
+        }
+
+        // Nothing inside the band: take the closest pair for the breakfast nearest a third of the target,
+        // repeats or not
+        int bi = Math.min(RecipeIndex.lowerBound(b, target / 3), b.length - 1);
+        out[0] = breakfasts.recipes[bi];
+        closestPair(l, d, target - b[bi], lunches, dinners, out);
+        return true;
+    }
+
+    // Number of (lunch, dinner) pairs whose calories sum into [lo, hi].
+    static long countPairs(double[] l, double[] d, double lo, double hi) {
+        long count = 0;
+        // As the lunch grows, the dinner window [start, end) only moves left
+        int start = RecipeIndex.lowerBound(d, lo - l[0]);
+        int end = RecipeIndex.upperBound(d, hi - l[0]);
+        for (int i = 0; i < l.length; i++) {
+            while (start > 0 && d[start - 1] >= lo - l[i]) {
+                start--;
+            }
+            while (end > 0 && d[end - 1] > hi - l[i]) {
+                end--;
+            }
+            if (end > start) {
+                count += end - start;
+            }
+        }
+        return count;
+    }
+
+    // Same sweep as countPairs, stopping at the n-th pair.
+    private static void selectPair(double[] l, double[] d, double lo, double hi, long n,
+                                   CandidatePool lunches, CandidatePool dinners, Recipe[] out) {
+        int start = RecipeIndex.lowerBound(d, lo - l[0]);
+        int end = RecipeIndex.upperBound(d, hi - l[0]);
+        for (int i = 0; i < l.length; i++) {
+            while (start > 0 && d[start - 1] >= lo - l[i]) {
+                start--;
+            }
+            while (end > 0 && d[end - 1] > hi - l[i]) {
+                end--;
+            }
+            if (end > start) {
+                if (n < end - start) {
+                    out[1] = lunches.recipes[i];
+                    out[2] = dinners.recipes[start + (int) n];
+                    return;
+                }
+                n -= end - start;
+            }
+        }
+        throw new IllegalStateException("Pair index out of range");
+    }
+
+    // Classic two-pointer search for the pair whose sum is closest to remaining.
+    private static void closestPair(double[] l, double[] d, double remaining,
+                                    CandidatePool lunches, CandidatePool dinners, Recipe[] out) {
+        int i = 0;
+        int j = d.length - 1;
+        int bestI = 0;
+        int bestJ = j;
+        double best = Double.MAX_VALUE;
+        while (i < l.length && j >= 0) {
+            double sum = l[i] + d[j];
+            double distance = Math.abs(sum - remaining);
+            if (distance < best) {
+                best = distance;
+                bestI = i;
+                bestJ = j;
+            }
+            if (sum < remaining) {
+                i++;
+            } else {
+                j--;
+            }
+        }
+        out[1] = lunches.recipes[bestI];
+        out[2] = dinners.recipes[bestJ];
+    }
+}
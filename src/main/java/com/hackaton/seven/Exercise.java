@@ -2,6 +2,8 @@ package com.hackaton.seven;
 
 public class Exercise {
     String name, equipment, intensity, category;
+    // Dense position in the catalog, assigned when it is indexed; -1 for placeholders
+    int id = -1;
 
     public Exercise(String name, String equipment, String intensity, String category) {
         this.name = name;
@@ -10,12 +12,19 @@ public class Exercise {
         this.category = category;
     }
 
+    // Stands in for an exercise slot nothing in the catalog can fill.
+    static Exercise placeholder(String category, String equipment, String intensity) {
+        return new Exercise("No suitable " + category + " exercise", equipment, intensity, category);
+    }
+
     public boolean matches(String userEquipment, String userIntensity) {
         return equipment.equalsIgnoreCase(userEquipment) && intensity.equalsIgnoreCase(userIntensity);
     }
 
     @Override
     public String toString() {
-        return name + " [" + category + "] - " + intensity + " (" + equipment + ")";
+        StringBuilder out = new StringBuilder(64);
+        PlanRenderer.appendExerciseText(out, this);
+        return out.toString();
     }
 }
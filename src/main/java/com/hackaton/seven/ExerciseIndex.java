@@ -0,0 +1,75 @@
+package com.hackaton.seven;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Exercises bucketed by (category, equipment, intensity), matched ignoring case and surrounding
+// whitespace. Built once, then shared by every request.
+final class ExerciseIndex {
+
+    private static final Exercise[] NO_EXERCISES = new Exercise[0];
+    // Placeholders kept for recent requests; a power of two
+    static final int FALLBACK_SLOTS = 256;
+
+    // category -> equipment -> intensity -> bucket, each level looked up with the request string
+    // itself, so a lookup builds no key and allocates nothing
+    private final Map<String, Map<String, Map<String, Exercise[]>>> buckets = newLevel();
+    private final AtomicReferenceArray<Exercise> fallbacks = new AtomicReferenceArray<>(FALLBACK_SLOTS);
+    private final int size;
+
+    ExerciseIndex(List<Exercise> exercises) {
+        this.size = exercises.size();
+        Map<String, Map<String, Map<String, List<Exercise>>>> grouped = newLevel();
+        int id = 0;
+        for (Exercise e : exercises) {
+            e.id = id++;
+            grouped.computeIfAbsent(e.category.trim(), k -> newLevel())
+                    .computeIfAbsent(e.equipment.trim(), k -> newLevel())
+                    .computeIfAbsent(e.intensity.trim(), k -> new ArrayList<>())
+                    .add(e);
+        }
+
+        grouped.forEach((category, byEquipment) -> {
+            Map<String, Map<String, Exercise[]>> equipmentBuckets = newLevel();
+            byEquipment.forEach((equipment, byIntensity) -> {
+                Map<String, Exercise[]> intensityBuckets = newLevel();
+                byIntensity.forEach((intensity, bucket) -> intensityBuckets.put(intensity, bucket.toArray(NO_EXERCISES)));
+                equipmentBuckets.put(equipment, intensityBuckets);
+            });
+            buckets.put(category, equipmentBuckets);
+        });
+    }
+
+    // Case-insensitive without lower-casing the request strings; trim() only copies when there is
+    // whitespace to remove.
+    private static <V> Map<String, V> newLevel() {
+        return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    }
+
+    int size() {
+        return size;
+    }
+
+    Exercise[] bucket(String category, String equipment, String intensity) {
+        Map<String, Map<String, Exercise[]>> byEquipment = buckets.get(category.trim());
+        Map<String, Exercise[]> byIntensity = byEquipment == null ? null : byEquipment.get(equipment.trim());
+        Exercise[] bucket = byIntensity == null ? null : byIntensity.get(intensity.trim());
+        return bucket == null ? NO_EXERCISES : bucket;
+    }
+
+    // Placeholder returned when nothing matches, shared by requests for the same strings. The cache
+    // is direct-mapped over FALLBACK_SLOTS slots, so request strings cannot grow it and a hit
+    // allocates nothing; a collision replaces the slot's placeholder.
+    Exercise fallback(String category, String equipment, String intensity) {
+        int h = (31 * category.hashCode() + equipment.hashCode()) * 31 + intensity.hashCode();
+        int slot = (h ^ (h >>> 16)) & (FALLBACK_SLOTS - 1);
+        Exercise cached = fallbacks.get(slot);
+        if (cached != null && cached.category.equals(category) && cached.equipment.equals(equipment)
+                && cached.intensity.equals(intensity)) {
+            return cached;
+        }
+        Exercise placeholder = Exercise.placeholder(category, equipment, intensity);
+        fallbacks.set(slot, placeholder);
+        return placeholder;
+    }
+}
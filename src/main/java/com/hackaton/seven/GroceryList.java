@@ -0,0 +1,84 @@
+package com.hackaton.seven;
+
+import java.util.Arrays;
+import java.util.Map;
+
+// Ingredient counts for a plan: how many of its meals use each ingredient. Counts live in an int
+// array indexed by ingredient id, and the ids touched so far are remembered, so clear() costs only
+// the size of the last list. Reuse one instance across users for bulk runs. The vocabulary must be
+// the one of the snapshot that produced the plans, or a later one (ids only ever grow).
+final class GroceryList {
+
+    private final IngredientVocabulary vocabulary;
+    private final int[] counts;
+    private int[] touched = new int[32];
+    private int size;
+
+    GroceryList(IngredientVocabulary vocabulary) {
+        this.vocabulary = vocabulary;
+        this.counts = new int[vocabulary.size()];
+    }
+
+    IngredientVocabulary vocabulary() {
+        return vocabulary;
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            counts[touched[i]] = 0;
+        }
+        size = 0;
+    }
+
+    // Counts the 21 meals of a week; placeholders for missing meals have no ingredient ids.
+    GroceryList addWeek(Map<String, DailyPlan> weeklyPlan) {
+        for (DailyPlan day : weeklyPlan.values()) {
+            add(day.breakfast);
+            add(day.lunch);
+            add(day.dinner);
+        }
+        return this;
+    }
+
+    GroceryList add(CatalogSnapshot catalog, CompactPlan plan) {
+        for (int d = 0; d < plan.days(); d++) {
+            for (PlanSlot slot : PlanSlot.MEALS) {
+                add(plan.recipe(catalog, d, slot));
+            }
+        }
+        return this;
+    }
+
+    void add(Recipe recipe) {
+        for (int id : recipe.ingredientIds) {
+            if (counts[id]++ == 0) {
+                if (size == touched.length) {
+                    touched = Arrays.copyOf(touched, size * 2);
+                }
+                touched[size++] = id;
+            }
+        }
+    }
+
+    // Number of distinct ingredients, listed in order of first use.
+    int size() {
+        return size;
+    }
+
+    int ingredientId(int i) {
+        return touched[i];
+    }
+
+    String ingredient(int i) {
+        return vocabulary.name(touched[i]);
+    }
+
+    int count(int i) {
+        return counts[touched[i]];
+    }
+
+    int countOf(String ingredient) {
+        int id = vocabulary.idOf(ingredient);
+        return id < 0 ? 0 : counts[id];
+    }
+}
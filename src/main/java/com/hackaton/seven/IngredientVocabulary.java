@@ -0,0 +1,85 @@
+package com.hackaton.seven;
+
+import java.util.*;
+
+// Interns ingredient names into dense ids. Names are compared after trimming, lower-casing and
+// collapsing runs of whitespace, so "Olive oil" and " olive  oil" share the id and the name
+// "olive oil". A vocabulary built for a reloaded catalog starts as a copy of the previous one, so
+// ids stay stable across reloads and plans made before a reload still count correctly against it.
+final class IngredientVocabulary {
+
+    private final Map<String, Integer> ids;
+    private final List<String> names;
+
+    IngredientVocabulary() {
+        this.ids = new HashMap<>();
+        this.names = new ArrayList<>();
+    }
+
+    IngredientVocabulary(IngredientVocabulary previous) {
+        this.ids = new HashMap<>(previous.ids);
+        this.names = new ArrayList<>(previous.names);
+    }
+
+    static String normalize(String ingredient) {
+        String trimmed = ingredient.trim().toLowerCase(Locale.ROOT);
+        StringBuilder out = new StringBuilder(trimmed.length());
+        boolean space = false;
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = true;
+            } else {
+                if (space) {
+                    out.append(' ');
+                    space = false;
+                }
+                out.append(c);
+            }
+        }
+        return out.length() == trimmed.length() ? trimmed : out.toString();
+    }
+
+    int intern(String ingredient) {
+        String key = normalize(ingredient);
+        Integer id = ids.get(key);
+        if (id != null) {
+            return id;
+        }
+        int next = names.size();
+        ids.put(key, next);
+        names.add(key);
+        return next;
+    }
+
+    // Distinct ids of the ingredients, in order of first mention.
+    int[] internAll(List<String> ingredients) {
+        int[] out = new int[ingredients.size()];
+        int n = 0;
+        for (String ingredient : ingredients) {
+            int id = intern(ingredient);
+            boolean seen = false;
+            for (int i = 0; i < n && !seen; i++) {
+                seen = out[i] == id;
+            }
+            if (!seen) {
+                out[n++] = id;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    // Id of the ingredient, or -1 if no recipe uses it.
+    int idOf(String ingredient) {
+        Integer id = ids.get(normalize(ingredient));
+        return id == null ? -1 : id;
+    }
+
+    String name(int id) {
+        return names.get(id);
+    }
+
+    int size() {
+        return names.size();
+    }
+}
@@ -0,0 +1,228 @@
+package com.hackaton.seven;
+
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+// Non-interactive mode: reads user profiles as JSON Lines (see ProfileJson) from a file or stdin
+// and writes one JSON plan per line, in input order, to a file or stdout.
+//   java com.hackaton.seven.Recommender --batch profiles.jsonl plans.jsonl
+// Each plan is the one /plan gives for the same profile and seed with default options. Lines
+// without a seed get a fresh one, and the "seed" written with the plan replays it.
+//
+// A reader thread cuts the input into chunks of lines, the calling thread has each chunk parsed,
+// planned and rendered in parallel on the pool, and a writer thread drains the rendered chunks to
+// the output channel. Only IN_FLIGHT chunks exist, so a slow writer stalls the reader and memory
+// stays constant however long the input is. A line that cannot be planned yields {"line":N,"error":...}
+// in its place, so output line N always answers input line N.
+final class JsonlBatch {
+
+    static final int CHUNK_LINES = 2048;
+    static final int IN_FLIGHT = 4;
+
+    private final ForkJoinPool pool;
+    private final BatchPlanner planner;
+    private final int partsPerChunk;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final BlockingQueue<Chunk> free = new ArrayBlockingQueue<>(IN_FLIGHT);
+    // One more slot for the END marker
+    private final BlockingQueue<Chunk> toPlan = new ArrayBlockingQueue<>(IN_FLIGHT + 1);
+    private final BlockingQueue<Chunk> toWrite = new ArrayBlockingQueue<>(IN_FLIGHT + 1);
+    private long plans;
+    private long errors;
+
+    JsonlBatch(Recommender recommender, ForkJoinPool pool) {
+        this.pool = pool;
+        this.planner = new BatchPlanner(recommender, pool);
+        this.partsPerChunk = Math.max(1, Math.min(CHUNK_LINES, pool.getParallelism() * 4));
+        for (int i = 0; i < IN_FLIGHT; i++) {
+            free.add(new Chunk(partsPerChunk));
+        }
+    }
+
+    // "-" stands for stdin / stdout. Returns the number of plans written; failed lines are counted
+    // in errors().
+    long run(String input, String output) throws IOException, InterruptedException {
+        ReadableByteChannel in = "-".equals(input)
+                ? new FileInputStream(FileDescriptor.in).getChannel()
+                : FileChannel.open(Path.of(input), StandardOpenOption.READ);
+        WritableByteChannel out = "-".equals(output)
+                ? new FileOutputStream(FileDescriptor.out).getChannel()
+                : FileChannel.open(Path.of(output), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+        try (BufferedReader reader = new BufferedReader(Channels.newReader(in, StandardCharsets.UTF_8), 1 << 16);
+             PlanWriter writer = new PlanWriter(out, PlanRenderer.Format.JSON)) {
+            return run(reader, writer);
+        }
+    }
+
+    long run(BufferedReader reader, PlanWriter writer) throws IOException, InterruptedException {
+        Thread readerThread = Thread.ofPlatform().name("jsonl-reader").daemon().start(() -> read(reader));
+        Thread writerThread = Thread.ofPlatform().name("jsonl-writer").daemon().start(() -> write(writer));
+
+        Chunk chunk;
+        while (!(chunk = toPlan.take()).last) {
+            if (failure.get() == null) {
+                plan(chunk);
+            }
+            toWrite.put(chunk);
+        }
+        toWrite.put(chunk);
+        readerThread.join();
+        writerThread.join();
+
+        Throwable t = failure.get();
+        if (t instanceof IOException e) {
+            throw e;
+        }
+        if (t != null) {
+            throw new IllegalStateException("Batch failed", t);
+        }
+        writer.flush();
+        return plans;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    private void read(BufferedReader reader) {
+        long lineNumber = 0;
+        try {
+            while (failure.get() == null) {
+                Chunk chunk = free.take();
+                chunk.firstLine = lineNumber + 1;
+                chunk.size = 0;
+                String line;
+                while (chunk.size < CHUNK_LINES && (line = reader.readLine()) != null) {
+                    chunk.lines[chunk.size++] = line;
+                }
+                lineNumber += chunk.size;
+                if (chunk.size == 0) {
+                    free.put(chunk);
+                    break;
+                }
+                toPlan.put(chunk);
+                if (chunk.size < CHUNK_LINES) {
+                    break;
+                }
+            }
+        } catch (Throwable t) {
+            failure.compareAndSet(null, t);
+        } finally {
+            toPlan.add(Chunk.END);
+        }
+    }
+
+    // Each part of the chunk is parsed, planned and rendered by one task into its own buffer.
+    private void plan(Chunk chunk) {
+        planner.startChunk();
+        int parts = Math.min(partsPerChunk, chunk.size);
+        int perPart = (chunk.size + parts - 1) / parts;
+        pool.submit(() -> IntStream.range(0, parts).parallel().forEach(p -> {
+            StringBuilder out = chunk.rendered[p];
+            int end = Math.min(chunk.size, (p + 1) * perPart);
+            int failed = 0;
+            for (int i = p * perPart; i < end; i++) {
+                if (!render(out, chunk.lines[i], chunk.firstLine + i)) {
+                    failed++;
+                }
+                chunk.lines[i] = null;
+            }
+            chunk.failed[p] = failed;
+        })).join();
+        chunk.parts = parts;
+    }
+
+    private boolean render(StringBuilder out, String line, long lineNumber) {
+        int start = out.length();
+        try {
+            UserProfile profile = ProfileJson.parse(line);
+            long seed = profile.seed != null ? profile.seed : ThreadLocalRandom.current().nextLong();
+            PlanRenderer.appendPlanJson(out, planner.planCompact(profile, seed), planner.catalog());
+            out.append('\n');
+            return true;
+        } catch (RuntimeException e) {
+            out.setLength(start);
+            out.append("{\"line\":").append(lineNumber).append(",\"error\":");
+            PlanRenderer.appendJsonString(out, String.valueOf(e.getMessage()));
+            out.append("}\n");
+            return false;
+        }
+    }
+
+    private void write(PlanWriter writer) {
+        try {
+            Chunk chunk;
+            while (!(chunk = toWrite.take()).last) {
+                try {
+                    if (failure.get() == null) {
+                        for (int p = 0; p < chunk.parts; p++) {
+                            writer.writeRendered(chunk.rendered[p]);
+                            errors += chunk.failed[p];
+                        }
+                        plans += chunk.size;
+                    }
+                } catch (Throwable t) {
+                    // Keep recycling chunks so the reader and planner run out instead of blocking
+                    failure.compareAndSet(null, t);
+                }
+                chunk.clear();
+                free.put(chunk);
+            }
+            plans -= errors;
+        } catch (InterruptedException e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    private static final class Chunk {
+        static final Chunk END = new Chunk(0, true);
+
+        final boolean last;
+        final String[] lines;
+        final StringBuilder[] rendered;
+        final int[] failed;
+        long firstLine;
+        int size;
+        int parts;
+
+        Chunk(int parts) {
+            this(parts, false);
+        }
+
+        private Chunk(int parts, boolean last) {
+            this.last = last;
+            this.lines = new String[last ? 0 : CHUNK_LINES];
+            this.rendered = new StringBuilder[parts];
+            this.failed = new int[parts];
+            for (int p = 0; p < parts; p++) {
+                rendered[p] = new StringBuilder(8 * 1024);
+            }
+        }
+
+        void clear() {
+            for (int p = 0; p < parts; p++) {
+                rendered[p].setLength(0);
+                failed[p] = 0;
+            }
+            parts = 0;
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.hackaton.seven;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Log-linear latency histogram in the style of HdrHistogram: every power of two is split into
+// 32 linear sub-buckets, so any recorded value is reported within ~3% of its true value.
+// Recording is one atomic increment per value and never allocates; readers see a consistent
+// enough picture for monitoring without stopping writers.
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Values are clamped to 2^43 - 1 ns (about 2.4 hours).
+    private static final int MAX_VALUE_BITS = 43;
+    private static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    private static final int BUCKETS = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long value) {
+        long v = Math.min(Math.max(value, 0), MAX_VALUE);
+        counts.incrementAndGet(index(v));
+        total.add(v);
+        long current = max.get();
+        while (v > current && !max.compareAndSet(current, v)) {
+            current = max.get();
+        }
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        total.reset();
+        max.set(0);
+    }
+
+    long count() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    long max() {
+        return max.get();
+    }
+
+    double mean() {
+        long count = count();
+        return count == 0 ? 0 : (double) total.sum() / count;
+    }
+
+    // Smallest bucket upper edge below which the given fraction (0..1) of the values fall.
+    long percentile(double fraction) {
+        long count = count();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestEquivalent(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    // Adds every count of other into this histogram.
+    void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long c = other.counts.get(i);
+            if (c != 0) {
+                counts.addAndGet(i, c);
+            }
+        }
+        total.add(other.total.sum());
+        long otherMax = other.max.get();
+        long current = max.get();
+        while (otherMax > current && !max.compareAndSet(current, otherMax)) {
+            current = max.get();
+        }
+    }
+
+    // "count=… mean=… p50=… p90=… p99=… p99.9=… max=…" with values in microseconds.
+    void appendSummary(StringBuilder out) {
+        out.append("count=").append(count());
+        appendMicros(out.append(" mean="), mean());
+        appendMicros(out.append(" p50="), percentile(0.50));
+        appendMicros(out.append(" p90="), percentile(0.90));
+        appendMicros(out.append(" p99="), percentile(0.99));
+        appendMicros(out.append(" p99.9="), percentile(0.999));
+        appendMicros(out.append(" max="), max());
+        out.append(" (us)");
+    }
+
+    private static void appendMicros(StringBuilder out, double nanos) {
+        long hundredths = Math.round(nanos / 10);
+        out.append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) {
+            out.append('0');
+        }
+        out.append(fraction);
+    }
+
+    static int index(long value) {
+        int top = 63 - Long.numberOfLeadingZeros(value | 1);
+        if (top < SUB_BUCKET_BITS) {
+            return (int) value;
+        }
+        int shift = top - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    // Largest value that lands in the bucket.
+    static long highestEquivalent(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long sub = SUB_BUCKETS + index % SUB_BUCKETS;
+        return ((sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,281 @@
+package com.hackaton.seven;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Open-loop load generator for the plan service. Requests are sent at a fixed arrival rate
+// whether or not earlier ones have answered, each on its own virtual thread, so a stalled server
+// builds a queue as it would under real traffic instead of slowing the generator down.
+//   java com.hackaton.seven.LoadGenerator <requests per second> <seconds> [http://localhost:8000]
+//   -Dload.warmupSeconds=5 -Dload.timeoutSeconds=10 -Dload.maxInFlight=10000 -Dload.seed=1
+//   -Dload.reportSeconds=5
+// Response time is measured from when a request was due to be sent, not from when it was sent,
+// which corrects for coordinated omission: if the generator or the connection pool falls behind,
+// the delay counts against the server. Service time (from the actual send) is reported alongside.
+// Requests that never get an answer still count: one dropped above load.maxInFlight, or still
+// pending when the run gives up on it, is recorded as a censored sample of the timeout (or of its
+// age, if larger), so overload shows up in the tail instead of vanishing from it.
+// Requests draw from a weighted mix of restriction profiles, calorie targets and equipment.
+// Warm-up traffic is sent at the same rate and left out of the results.
+public final class LoadGenerator {
+
+    // Query suffixes of the restriction profiles and how often each is requested
+    private static final String[] PROFILES = {
+            "",
+            "&diet=vegetarian",
+            "&diet=vegan",
+            "&diet=gluten_free",
+            "&allergies=dairy",
+            "&allergies=nuts",
+            "&diet=vegan,gluten_free",
+            "&diet=pescatarian&allergies=shellfish",
+            "&diet=vegetarian&allergies=dairy,nuts",
+            "&include=spinach",
+            "&exclude=mushrooms&allergies=gluten",
+            "&mode=day&tolerance=100",
+            "&noRepeatDays=3",
+    };
+    private static final double[] PROFILE_WEIGHTS = {0.34, 0.14, 0.10, 0.09, 0.07, 0.05, 0.04, 0.03, 0.03, 0.03,
+            0.03, 0.03, 0.02};
+    private static final String[] EQUIPMENT = {"None", "Dumbbells", "Kettlebell", "Resistance%20Bands", "Barbell"};
+    private static final double[] EQUIPMENT_WEIGHTS = {0.50, 0.25, 0.10, 0.10, 0.05};
+
+    private final HttpClient client;
+    // One virtual thread per request; the client keeps its own threads for connection handling
+    private final ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor();
+    private final String baseUrl;
+    private final Duration timeout;
+    private final long maxInFlight;
+
+    private final LatencyHistogram responseTimes = new LatencyHistogram();
+    private final LatencyHistogram serviceTimes = new LatencyHistogram();
+    // Response times of the current report interval only
+    private final LatencyHistogram interval = new LatencyHistogram();
+    private final LongAdder completed = new LongAdder();
+    // Response times recorded as a lower bound because no answer arrived
+    private final LongAdder censored = new LongAdder();
+    // Measured requests not yet recorded, by sequence number, with their due time. Whoever removes
+    // an entry records it, so a request is never counted twice.
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+    private final LongAdder ok = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong maxSeenInFlight = new AtomicLong();
+
+    LoadGenerator(String baseUrl, Duration timeout, long maxInFlight) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.timeout = timeout;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: LoadGenerator <requests per second> <seconds> [base url]");
+            System.exit(2);
+        }
+        double rate = Double.parseDouble(args[0]);
+        double seconds = Double.parseDouble(args[1]);
+        String url = args.length == 3 ? args[2] : "http://localhost:8000";
+        double warmup = Double.parseDouble(System.getProperty("load.warmupSeconds", "5"));
+        Duration timeout = Duration.ofMillis(
+                (long) (1000 * Double.parseDouble(System.getProperty("load.timeoutSeconds", "10"))));
+        long maxInFlight = Long.parseLong(System.getProperty("load.maxInFlight", "10000"));
+        long seed = Long.parseLong(System.getProperty("load.seed", "1"));
+        double reportSeconds = Double.parseDouble(System.getProperty("load.reportSeconds", "5"));
+
+        LoadGenerator generator = new LoadGenerator(url, timeout, maxInFlight);
+        System.out.println("Open-loop load: " + rate + " req/s for " + seconds + " s against " + url
+                + " after " + warmup + " s of warm-up");
+        generator.run(rate, warmup, seconds, reportSeconds, seed);
+        StringBuilder report = new StringBuilder(1024);
+        generator.appendReport(report, seconds);
+        System.out.print(report);
+    }
+
+    void run(double rate, double warmupSeconds, double seconds, double reportSeconds, long seed)
+            throws InterruptedException {
+        if (rate <= 0 || seconds <= 0) {
+            throw new IllegalArgumentException("Rate and duration must be positive");
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        double nanosPerRequest = 1e9 / rate;
+        long start = System.nanoTime();
+        long measureFrom = start + (long) (warmupSeconds * 1e9);
+        long end = measureFrom + (long) (seconds * 1e9);
+
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "load-report");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long reportNanos = (long) (reportSeconds * 1e9);
+        reporter.scheduleAtFixedRate(() -> reportInterval(start, measureFrom), reportNanos, reportNanos,
+                TimeUnit.NANOSECONDS);
+        try {
+            for (long i = 0; ; i++) {
+                // Due times come from the schedule, never from when the previous send happened
+                long due = start + (long) (i * nanosPerRequest);
+                if (due >= end) {
+                    break;
+                }
+                long wait;
+                while ((wait = due - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                URI uri = URI.create(nextPath(random));
+                boolean measured = due >= measureFrom;
+                long sending = inFlight.incrementAndGet();
+                if (sending > maxInFlight) {
+                    inFlight.decrementAndGet();
+                    recordCensored(due, measured, "dropped, " + maxInFlight + " in flight");
+                    continue;
+                }
+                maxSeenInFlight.accumulateAndGet(sending, Math::max);
+                long sequence = i;
+                if (measured) {
+                    pending.put(sequence, due);
+                }
+                requests.execute(() -> send(uri, sequence, due, measured));
+            }
+            requests.shutdown();
+            if (!requests.awaitTermination(timeout.toMillis() + 5_000, TimeUnit.MILLISECONDS)) {
+                requests.shutdownNow();
+                requests.awaitTermination(1, TimeUnit.SECONDS);
+            }
+            // Whatever is left never answered
+            for (Map.Entry<Long, Long> request : pending.entrySet()) {
+                if (pending.remove(request.getKey()) != null) {
+                    recordCensored(request.getValue(), true, "unfinished");
+                }
+            }
+        } finally {
+            reporter.shutdownNow();
+        }
+    }
+
+    private String nextPath(SplittableRandom random) {
+        StringBuilder path = new StringBuilder(160).append(baseUrl).append("/plan?calories=")
+                .append(1400 + 50 * random.nextInt(37))
+                .append("&equipment=").append(EQUIPMENT[Weights.pick(EQUIPMENT_WEIGHTS, random)])
+                .append("&intensity=").append(Weights.INTENSITIES[Weights.pick(Weights.INTENSITY_WEIGHTS, random)])
+                .append(PROFILES[Weights.pick(PROFILE_WEIGHTS, random)])
+                .append("&seed=").append(random.nextLong());
+        return path.toString();
+    }
+
+    // Every completed request is recorded, failed ones included; requests that never complete are
+    // recorded by recordCensored instead.
+    private void send(URI uri, long sequence, long due, boolean measured) {
+        long sentAt = System.nanoTime();
+        String failure = null;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(timeout).GET().build();
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 != 2) {
+                failure = "http " + response.statusCode();
+            }
+        } catch (HttpTimeoutException e) {
+            failure = "timeout";
+        } catch (IOException e) {
+            failure = "io " + e.getClass().getSimpleName();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = "interrupted";
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        long done = System.nanoTime();
+        if (measured && pending.remove(sequence) == null) {
+            return; // Already given up on and recorded as censored
+        }
+        interval.record(done - due);
+        if (!measured) {
+            return;
+        }
+        completed.increment();
+        responseTimes.record(done - due);
+        serviceTimes.record(done - sentAt);
+        if (failure == null) {
+            ok.increment();
+        } else {
+            error(failure);
+        }
+    }
+
+    // A request without a response time: it counts as taking the timeout, or longer if it has
+    // already waited longer.
+    private void recordCensored(long due, boolean measured, String kind) {
+        long responseTime = Math.max(timeout.toNanos(), System.nanoTime() - due);
+        interval.record(responseTime);
+        if (!measured) {
+            return;
+        }
+        responseTimes.record(responseTime);
+        censored.increment();
+        error(kind);
+    }
+
+    private void error(String kind) {
+        errors.computeIfAbsent(kind, k -> new LongAdder()).increment();
+    }
+
+    private void reportInterval(long start, long measureFrom) {
+        long now = System.nanoTime();
+        StringBuilder line = new StringBuilder(160);
+        line.append(String.format("t=%.0fs%s in flight=%d ", (now - start) / 1e9, now < measureFrom ? " (warm-up)" : "",
+                inFlight.get()));
+        appendMillis(line, interval);
+        interval.reset();
+        System.out.println(line);
+    }
+
+    void appendReport(StringBuilder out, double seconds) {
+        long errorCount = 0;
+        for (LongAdder count : errors.values()) {
+            errorCount += count.sum();
+        }
+        out.append("completed=").append(completed.sum()).append(" ok=").append(ok.sum()).append(" errors=").append(errorCount)
+                .append(String.format(" throughput=%.1f ok/s", ok.sum() / seconds))
+                .append(" max in flight=").append(maxSeenInFlight.get()).append('\n');
+        for (Map.Entry<String, LongAdder> e : new TreeMap<>(errors).entrySet()) {
+            out.append("  ").append(e.getKey()).append(": ").append(e.getValue().sum()).append('\n');
+        }
+        out.append("response time (from due time) ");
+        appendMillis(out, responseTimes);
+        out.append('\n');
+        if (censored.sum() > 0) {
+            out.append("  ").append(censored.sum()).append(" of these never answered and count as at least the ")
+                    .append(timeout.toMillis()).append(" ms timeout\n");
+        }
+        out.append("service time  (from send)     ");
+        appendMillis(out, serviceTimes);
+        out.append('\n');
+    }
+
+    private static void appendMillis(StringBuilder out, LatencyHistogram histogram) {
+        out.append(String.format("count=%d p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f p99.99=%.2f max=%.2f (ms)",
+                histogram.count(), histogram.percentile(0.50) / 1e6, histogram.percentile(0.90) / 1e6,
+                histogram.percentile(0.99) / 1e6, histogram.percentile(0.999) / 1e6,
+                histogram.percentile(0.9999) / 1e6, histogram.max() / 1e6));
+    }
+}
@@ -0,0 +1,63 @@
+package com.hackaton.seven;
+
+// How meal candidates are ranked before one of the best topK is drawn at random. Lower cost is
+// better:
+//   calorieWeight * |calories - target| - balanceWeight * balanceScore
+//     + proteinWeight * |protein - proteinTarget| + carbWeight * |carbs - carbTarget|
+// The protein and carb terms only apply when their target is set. Weights must be non-negative.
+public class MealRanking {
+
+    static final int DEFAULT_TOP_K = 5;
+    // Callers size candidate buffers by topK, so requests may not ask for more
+    static final int MAX_TOP_K = 100;
+
+    int topK = DEFAULT_TOP_K;
+    double calorieWeight = 1;
+    double balanceWeight = 0;
+    double proteinTarget = Double.NaN;
+    double proteinWeight = 1;
+    double carbTarget = Double.NaN;
+    double carbWeight = 1;
+
+    // Random among the 5 closest by calories: the original behaviour.
+    static MealRanking caloriesOnly() {
+        return new MealRanking();
+    }
+
+    boolean isCaloriesOnly() {
+        return balanceWeight == 0 && Double.isNaN(proteinTarget) && Double.isNaN(carbTarget);
+    }
+
+    // Why this ranking cannot be used, or null. Negative weights and targets would break the pruning
+    // bound in CandidatePool.collectRanked; an unset target is NaN and allowed. Parameter names are
+    // those of the plan service.
+    String error() {
+        if (topK < 1 || topK > MAX_TOP_K) {
+            return "Parameter 'topK' must be between 1 and " + MAX_TOP_K;
+        }
+        if (!(balanceWeight >= 0) || Double.isInfinite(balanceWeight)) {
+            return "Parameter 'balanceWeight' must be a non-negative number";
+        }
+        if (proteinTarget < 0 || Double.isInfinite(proteinTarget)) {
+            return "Parameter 'proteinTarget' must be a non-negative number";
+        }
+        if (carbTarget < 0 || Double.isInfinite(carbTarget)) {
+            return "Parameter 'carbTarget' must be a non-negative number";
+        }
+        if (!(calorieWeight >= 0 && proteinWeight >= 0 && carbWeight >= 0)) {
+            return "Ranking weights must be non-negative";
+        }
+        return null;
+    }
+
+    double cost(CandidatePool pool, int i, double targetCalories) {
+        double cost = calorieWeight * Math.abs(pool.calories[i] - targetCalories) - balanceWeight * pool.balance[i];
+        if (!Double.isNaN(proteinTarget)) {
+            cost += proteinWeight * Math.abs(pool.protein[i] - proteinTarget);
+        }
+        if (!Double.isNaN(carbTarget)) {
+            cost += carbWeight * Math.abs(pool.carbs[i] - carbTarget);
+        }
+        return cost;
+    }
+}
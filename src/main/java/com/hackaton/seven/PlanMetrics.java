@@ -0,0 +1,123 @@
+package com.hackaton.seven;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Latency, throughput and fallback counters for plan generation. Recording is lock-free and does
+// not allocate once a fallback key has been seen; with metrics disabled (-Drecommender.metrics=false
+// or setEnabled(false)) the hot path costs one volatile read per call.
+final class PlanMetrics {
+
+    enum Operation {
+        WEEKLY_PLAN("generateWeeklyPlanWithExercise"),
+        MEAL("getRandomMeal"),
+        EXERCISE("getRandomExercise");
+
+        final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final LatencyHistogram[] latencies = new LatencyHistogram[OPERATIONS.length];
+    private final Map<String, LongAdder> mealFallbacks = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> exerciseFallbacks = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+    private volatile long since = System.nanoTime();
+
+    PlanMetrics(boolean enabled) {
+        this.enabled = enabled;
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new LatencyHistogram();
+        }
+    }
+
+    static PlanMetrics fromSystemProperties() {
+        return new PlanMetrics(Boolean.parseBoolean(System.getProperty("recommender.metrics", "true")));
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    // Start timestamp for record(), or 0 when metrics are off.
+    long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    void record(Operation operation, long start) {
+        if (start != 0) {
+            latencies[operation.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+    void mealFallback(String mealType) {
+        if (enabled) {
+            mealFallbacks.computeIfAbsent(mealType, k -> new LongAdder()).increment();
+        }
+    }
+
+    void exerciseFallback(String category) {
+        if (enabled) {
+            exerciseFallbacks.computeIfAbsent(category, k -> new LongAdder()).increment();
+        }
+    }
+
+    LatencyHistogram latency(Operation operation) {
+        return latencies[operation.ordinal()];
+    }
+
+    long mealFallbacks(String mealType) {
+        LongAdder count = mealFallbacks.get(mealType);
+        return count == null ? 0 : count.sum();
+    }
+
+    long exerciseFallbacks(String category) {
+        LongAdder count = exerciseFallbacks.get(category);
+        return count == null ? 0 : count.sum();
+    }
+
+    void reset() {
+        for (LatencyHistogram histogram : latencies) {
+            histogram.reset();
+        }
+        mealFallbacks.clear();
+        exerciseFallbacks.clear();
+        since = System.nanoTime();
+    }
+
+    // Plain-text snapshot, one metric per line, throughput averaged since start or the last reset.
+    void appendText(StringBuilder out, CandidatePoolCache poolCache) {
+        double seconds = Math.max(1e-9, (System.nanoTime() - since) / 1e9);
+        out.append("metrics.enabled ").append(enabled).append('\n');
+        out.append("uptime.seconds ").append(Math.round(seconds)).append('\n');
+        for (Operation operation : OPERATIONS) {
+            LatencyHistogram histogram = latencies[operation.ordinal()];
+            out.append(operation.label).append(".latency ");
+            histogram.appendSummary(out);
+            out.append('\n');
+            out.append(operation.label).append(".throughput ")
+                    .append(Math.round(histogram.count() / seconds)).append("/s\n");
+        }
+        appendCounts(out, "fallback.meal.", mealFallbacks);
+        appendCounts(out, "fallback.exercise.", exerciseFallbacks);
+        out.append("poolCache.hits ").append(poolCache.hits()).append('\n');
+        out.append("poolCache.misses ").append(poolCache.misses()).append('\n');
+        out.append("poolCache.size ").append(poolCache.size()).append('\n');
+    }
+
+    private static void appendCounts(StringBuilder out, String prefix, Map<String, LongAdder> counts) {
+        for (Map.Entry<String, LongAdder> entry : new TreeMap<>(counts).entrySet()) {
+            out.append(prefix).append(entry.getKey()).append(' ').append(entry.getValue().sum()).append('\n');
+        }
+    }
+}
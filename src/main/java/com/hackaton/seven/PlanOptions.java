@@ -0,0 +1,28 @@
+package com.hackaton.seven;
+
+// Tunables for plan generation. The defaults reproduce the original behaviour.
+public class PlanOptions {
+
+    // Pick each day's three meals together so their total lands near the daily target,
+    // instead of three independent picks around dailyCalories / 3.
+    boolean wholeDay = false;
+    // Accepted distance, in kcal, between a whole-day triple and the daily target.
+    double calorieTolerance = 50;
+    // Ranking for independent per-meal picks.
+    MealRanking ranking = MealRanking.caloriesOnly();
+    // No recipe or exercise is served again within this many days; 0 disables the constraint and
+    // VarietyTracker.WHOLE_PLAN forbids repeats anywhere in the plan. When a restricted pool is
+    // too small to honour it, repeats are allowed again for that slot rather than failing.
+    int noRepeatDays = 0;
+
+    static PlanOptions defaults() {
+        return new PlanOptions();
+    }
+
+    static PlanOptions wholeDay(double calorieTolerance) {
+        PlanOptions options = new PlanOptions();
+        options.wholeDay = true;
+        options.calorieTolerance = calorieTolerance;
+        return options;
+    }
+}
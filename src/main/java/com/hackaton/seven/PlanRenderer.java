@@ -0,0 +1,247 @@
+package com.hackaton.seven;
+
+import java.util.List;
+import java.util.Map;
+
+// Renders plans straight into a caller-owned StringBuilder, in text or JSON, without String.format
+// or intermediate strings. Reuse the builder (setLength(0)) across plans for bulk exports.
+final class PlanRenderer {
+
+    enum Format { TEXT, JSON }
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private PlanRenderer() {
+    }
+
+    static void appendWeek(StringBuilder out, Map<String, DailyPlan> weeklyPlan, Format format) {
+        if (format == Format.JSON) {
+            appendWeekJson(out, weeklyPlan);
+        } else {
+            appendWeekText(out, weeklyPlan);
+        }
+    }
+
+    // Same layout the interactive CLI prints: "\n Day N:" followed by the day, one line break after each day.
+    static void appendWeekText(StringBuilder out, Map<String, DailyPlan> weeklyPlan) {
+        for (Map.Entry<String, DailyPlan> entry : weeklyPlan.entrySet()) {
+            out.append("\n ").append(entry.getKey()).append(':');
+            appendDayText(out, entry.getValue());
+            out.append('\n');
+        }
+    }
+
+    static void appendDayText(StringBuilder out, DailyPlan plan) {
+        out.append("\n🍳 Breakfast: ");
+        appendRecipeText(out, plan.breakfast);
+        out.append("\n🥗 Lunch: ");
+        appendRecipeText(out, plan.lunch);
+        out.append("\n🍽️ Dinner: ");
+        appendRecipeText(out, plan.dinner);
+        out.append("\n🏋️ Exercises:\n - Upper Body: ");
+        appendExerciseText(out, plan.upper);
+        out.append("\n - Lower Body: ");
+        appendExerciseText(out, plan.lower);
+        out.append("\n - Core: ");
+        appendExerciseText(out, plan.core);
+        out.append("\n - Cardio: ");
+        appendExerciseText(out, plan.cardio);
+    }
+
+    static void appendRecipeText(StringBuilder out, Recipe r) {
+        out.append(r.name).append(" [").append(r.mealType).append("]: ").append(r.calories).append(" kcal | [");
+        List<String> ingredients = r.ingredients;
+        for (int i = 0; i < ingredients.size(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append(ingredients.get(i));
+        }
+        out.append(']');
+    }
+
+    static void appendExerciseText(StringBuilder out, Exercise e) {
+        out.append(e.name).append(" [").append(e.category).append("] - ").append(e.intensity)
+                .append(" (").append(e.equipment).append(')');
+    }
+
+    static void appendWeekJson(StringBuilder out, Map<String, DailyPlan> weeklyPlan) {
+        out.append('{');
+        appendDaysJson(out, weeklyPlan);
+        out.append('}');
+    }
+
+    static void appendWeekJson(StringBuilder out, Map<String, DailyPlan> weeklyPlan, long seed) {
+        out.append("{\"seed\":").append(seed).append(',');
+        appendDaysJson(out, weeklyPlan);
+        out.append('}');
+    }
+
+    static void appendWeekJson(StringBuilder out, Map<String, DailyPlan> weeklyPlan, long seed, GroceryList groceries) {
+        out.append("{\"seed\":").append(seed).append(',');
+        appendDaysJson(out, weeklyPlan);
+        out.append(",\"groceries\":");
+        appendGroceryJson(out, groceries);
+        out.append('}');
+    }
+
+    // Same JSON as appendWeekJson; recipes and exercises are looked up in catalog, which must be the
+    // one the plan was generated from, one day at a time.
+    static void appendPlanJson(StringBuilder out, CompactPlan plan, CatalogSnapshot catalog) {
+        out.append("{\"seed\":").append(plan.seed).append(',');
+        appendDaysJson(out, plan, catalog);
+        out.append('}');
+    }
+
+    static void appendPlanJson(StringBuilder out, CompactPlan plan, CatalogSnapshot catalog, GroceryList groceries) {
+        out.append("{\"seed\":").append(plan.seed).append(',');
+        appendDaysJson(out, plan, catalog);
+        out.append(",\"groceries\":");
+        appendGroceryJson(out, groceries);
+        out.append('}');
+    }
+
+    // The ids themselves, for clients that hold the same catalog:
+    //   {"seed":42,"catalog":"<fingerprint hex>","days":[[breakfast,lunch,dinner,upper,lower,core,cardio],...]}
+    static void appendCompactJson(StringBuilder out, CompactPlan plan) {
+        out.append("{\"seed\":").append(plan.seed)
+                .append(",\"catalog\":\"").append(Long.toHexString(plan.catalogFingerprint)).append("\",\"days\":[");
+        for (int d = 0; d < plan.days(); d++) {
+            out.append(d == 0 ? "[" : ",[");
+            for (PlanSlot slot : PlanSlot.values()) {
+                if (slot.ordinal() > 0) {
+                    out.append(',');
+                }
+                out.append(plan.id(d, slot));
+            }
+            out.append(']');
+        }
+        out.append("]}");
+    }
+
+    // One line per ingredient: " - olive oil x3" where 3 is the number of meals using it.
+    static void appendGroceryText(StringBuilder out, GroceryList groceries) {
+        for (int i = 0; i < groceries.size(); i++) {
+            out.append(" - ").append(groceries.ingredient(i)).append(" x").append(groceries.count(i)).append('\n');
+        }
+    }
+
+    static void appendGroceryJson(StringBuilder out, GroceryList groceries) {
+        out.append('[');
+        for (int i = 0; i < groceries.size(); i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append("{\"ingredient\":");
+            appendJsonString(out, groceries.ingredient(i));
+            out.append(",\"meals\":").append(groceries.count(i)).append('}');
+        }
+        out.append(']');
+    }
+
+    private static void appendDaysJson(StringBuilder out, Map<String, DailyPlan> weeklyPlan) {
+        out.append("\"days\":[");
+        boolean first = true;
+        for (Map.Entry<String, DailyPlan> entry : weeklyPlan.entrySet()) {
+            if (!first) {
+                out.append(',');
+            }
+            first = false;
+            appendDayJson(out, entry.getKey(), entry.getValue());
+        }
+        out.append(']');
+    }
+
+    private static void appendDaysJson(StringBuilder out, CompactPlan plan, CatalogSnapshot catalog) {
+        out.append("\"days\":[");
+        DailyPlan day = new DailyPlan();
+        for (int d = 0; d < plan.days(); d++) {
+            if (d > 0) {
+                out.append(',');
+            }
+            appendDayJson(out, "Day " + (d + 1), plan.day(catalog, d, day));
+        }
+        out.append(']');
+    }
+
+    // One element of the "days" array.
+    static void appendDayJson(StringBuilder out, String day, DailyPlan plan) {
+        out.append("{\"day\":");
+        appendJsonString(out, day);
+        out.append(',');
+        appendDayJsonFields(out, plan);
+        out.append('}');
+    }
+
+    static void appendDayJsonFields(StringBuilder out, DailyPlan plan) {
+        out.append("\"breakfast\":");
+        appendRecipeJson(out, plan.breakfast);
+        out.append(",\"lunch\":");
+        appendRecipeJson(out, plan.lunch);
+        out.append(",\"dinner\":");
+        appendRecipeJson(out, plan.dinner);
+        out.append(",\"exercises\":{\"upper_body\":");
+        appendExerciseJson(out, plan.upper);
+        out.append(",\"lower_body\":");
+        appendExerciseJson(out, plan.lower);
+        out.append(",\"core\":");
+        appendExerciseJson(out, plan.core);
+        out.append(",\"cardio\":");
+        appendExerciseJson(out, plan.cardio);
+        out.append('}');
+    }
+
+    static void appendRecipeJson(StringBuilder out, Recipe r) {
+        out.append("{\"name\":");
+        appendJsonString(out, r.name);
+        out.append(",\"mealType\":");
+        appendJsonString(out, r.mealType);
+        out.append(",\"calories\":").append(r.calories)
+                .append(",\"carbs\":").append(r.carbs)
+                .append(",\"protein\":").append(r.protein)
+                .append(",\"fats\":").append(r.fats)
+                .append(",\"ingredients\":[");
+        List<String> ingredients = r.ingredients;
+        for (int i = 0; i < ingredients.size(); i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            appendJsonString(out, ingredients.get(i));
+        }
+        out.append("]}");
+    }
+
+    static void appendExerciseJson(StringBuilder out, Exercise e) {
+        out.append("{\"name\":");
+        appendJsonString(out, e.name);
+        out.append(",\"category\":");
+        appendJsonString(out, e.category);
+        out.append(",\"equipment\":");
+        appendJsonString(out, e.equipment);
+        out.append(",\"intensity\":");
+        appendJsonString(out, e.intensity);
+        out.append('}');
+    }
+
+    static void appendJsonString(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xf]);
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,468 @@
+package com.hackaton.seven;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Serves generateWeeklyPlanWithExercise over HTTP, one virtual thread per request.
+//   GET /plan?calories=2000&diet=vegan,gluten_free&allergies=dairy&equipment=None&intensity=Medium[&seed=42]
+//            [&mode=day&tolerance=50][&topK=5&balanceWeight=1&proteinTarget=30&carbTarget=50]
+//            [&noRepeatDays=3|all][&groceries=true][&include=tofu&exclude=mushrooms]
+//            [&days=365]   any horizon up to MAX_PLAN_DAYS, streamed as it is generated
+//            [&format=ids]   catalog ids instead of recipes and exercises (PlanRenderer.appendCompactJson)
+//   GET /metrics   plain-text latency, throughput, fallback and pool cache counters
+//   GET /plans?user=42[&format=ids]   the plan last generated with &user=42, when -Dplans.store=<dir> is set
+//   POST /plans/reroll?user=42&day=3&slot=lunch&calories=2000[&diet=...&mode=day...]   replaces one slot of
+//            that stored plan, keeping the rest; pass the profile and options the plan was generated with
+// Every response carries the seed it was generated with, so the same plan can be requested again.
+// When the catalog is read from files, they are watched and reloaded without a restart
+// (-Dcatalog.watch=false turns this off).
+public class PlanServer {
+
+    private static final int WARM_UP_PLANS = 2_000;
+    static final int MAX_PLAN_DAYS = 3660;
+    private static final int STREAM_FLUSH_CHARS = 32 * 1024;
+
+    private final Recommender recommender;
+    private final PlanStore store;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    PlanServer(Recommender recommender, String address, int port) throws IOException {
+        this(recommender, null, address, port);
+    }
+
+    // store may be null, in which case plans are not kept
+    PlanServer(Recommender recommender, PlanStore store, String address, int port) throws IOException {
+        this.recommender = recommender;
+        this.store = store;
+        this.server = HttpServer.create(new InetSocketAddress(address, port), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/plan", this::handlePlan);
+        server.createContext("/metrics", this::handleMetrics);
+        if (store != null) {
+            server.createContext("/plans", this::handleStoredPlan);
+            server.createContext("/plans/reroll", this::handleReroll);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Properties properties = loadProperties();
+        String address = properties.getProperty("server.address", "0.0.0.0");
+        int port = Integer.parseInt(properties.getProperty("server.port", "8000").trim());
+
+        Recommender recommender = new Recommender();
+        warmUp(recommender);
+        recommender.metrics().reset(); // Report production traffic only
+
+        String storeDirectory = System.getProperty("plans.store");
+        PlanStore store = storeDirectory == null ? null : PlanStore.open(Path.of(storeDirectory));
+        if (store != null) {
+            scheduleCompaction(store);
+        }
+        PlanServer planServer = new PlanServer(recommender, store, address, port);
+        Runtime.getRuntime().addShutdownHook(new Thread(planServer::stop));
+        planServer.start();
+        System.out.println("Plan service listening on " + address + ":" + port);
+
+        List<Path> catalogFiles = Catalog.sourceFiles();
+        if (!catalogFiles.isEmpty() && Boolean.parseBoolean(System.getProperty("catalog.watch", "true"))) {
+            new CatalogWatcher(recommender, catalogFiles, Catalog::load).start();
+            System.out.println("Watching " + catalogFiles + " for catalog changes");
+        }
+    }
+
+    // Rewrites mostly superseded plan segments every -Dplans.store.compactMinutes (10 by default).
+    private static void scheduleCompaction(PlanStore store) {
+        long minutes = Long.getLong("plans.store.compactMinutes", 10);
+        ScheduledExecutorService compactor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "plan-store-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        compactor.scheduleWithFixedDelay(() -> {
+            try {
+                store.compact();
+            } catch (IOException e) {
+                System.err.println("Plan store compaction failed: " + e);
+            }
+        }, minutes, minutes, TimeUnit.MINUTES);
+    }
+
+    void start() {
+        server.start();
+    }
+
+    void stop() {
+        server.stop(0);
+        executor.close();
+        if (store != null) {
+            try {
+                store.close();
+            } catch (IOException e) {
+                System.err.println("Could not close plan store: " + e);
+            }
+        }
+    }
+
+    static Properties loadProperties() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = PlanServer.class.getResourceAsStream("/application.properties")) {
+            if (in != null) {
+                properties.load(in);
+            }
+        }
+        return properties;
+    }
+
+    // Runs the hot paths before taking traffic so the first users do not pay for JIT compilation.
+    static void warmUp(Recommender recommender) {
+        Set<String> none = Collections.emptySet();
+        Set<String> vegan = Collections.singleton("vegan");
+        Set<String> dairy = Collections.singleton("dairy");
+        for (int i = 0; i < WARM_UP_PLANS; i++) {
+            recommender.generateWeeklyPlanWithExercise(1500 + (i % 10) * 100,
+                    i % 2 == 0 ? none : vegan, i % 3 == 0 ? dairy : none, "None", "Medium");
+        }
+    }
+
+    private void handlePlan(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equalsIgnoreCase(exchange.getRequestMethod())) {
+                respond(exchange, 405, "{\"error\":\"Only GET is supported\"}");
+                return;
+            }
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            String calories = query.get("calories");
+            if (calories == null) {
+                respond(exchange, 400, "{\"error\":\"Missing required parameter 'calories'\"}");
+                return;
+            }
+            double dailyCalories;
+            long seed;
+            Long user;
+            int days;
+            PlanOptions options;
+            try {
+                dailyCalories = Double.parseDouble(calories);
+                String seedParam = query.get("seed");
+                seed = seedParam == null ? ThreadLocalRandom.current().nextLong() : Long.parseLong(seedParam);
+                String userParam = query.get("user");
+                user = userParam == null ? null : Long.parseLong(userParam);
+                String daysParam = query.get("days");
+                days = daysParam == null ? 7 : Integer.parseInt(daysParam);
+                options = parseOptions(query);
+            } catch (NumberFormatException e) {
+                respond(exchange, 400, "{\"error\":\"Invalid numeric parameter\"}");
+                return;
+            }
+            if (days < 1 || days > MAX_PLAN_DAYS) {
+                respond(exchange, 400, "{\"error\":\"Parameter 'days' must be between 1 and " + MAX_PLAN_DAYS + "\"}");
+                return;
+            }
+            String optionsError = optionsError(options);
+            if (optionsError != null) {
+                respond(exchange, 400, "{\"error\":\"" + optionsError + "\"}");
+                return;
+            }
+            boolean ids = "ids".equals(query.get("format"));
+            if (days != 7 && (user != null || query.containsKey("groceries") || ids)) {
+                respond(exchange, 400, "{\"error\":\"Parameters 'user', 'groceries' and 'format' apply to weekly plans only\"}");
+                return;
+            }
+
+            UserProfile profile = parseProfile(query, dailyCalories, seed);
+            if (days != 7) {
+                streamPlan(exchange, profile, days, options, seed);
+                return;
+            }
+            CatalogSnapshot catalog = recommender.snapshot();
+            CompactPlan plan = recommender.generateCompactPlan(catalog, profile, days, options);
+            if (store != null && user != null) {
+                store.put(user, plan);
+            }
+            StringBuilder json = new StringBuilder(8 * 1024);
+            if (ids) {
+                PlanRenderer.appendCompactJson(json, plan);
+            } else if (Boolean.parseBoolean(query.get("groceries"))) {
+                PlanRenderer.appendPlanJson(json, plan, catalog,
+                        new GroceryList(catalog.recipes.ingredients()).add(catalog, plan));
+            } else {
+                PlanRenderer.appendPlanJson(json, plan, catalog);
+            }
+            respond(exchange, 200, json);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // Sends the days as they are generated, in chunked transfer encoding, so the response for a long
+    // horizon is never held in memory.
+    private void streamPlan(HttpExchange exchange, UserProfile profile, int days, PlanOptions options, long seed)
+            throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, 0);
+        StringBuilder json = new StringBuilder(STREAM_FLUSH_CHARS + 8 * 1024);
+        json.append("{\"seed\":").append(seed).append(",\"days\":[");
+        try (OutputStream out = exchange.getResponseBody()) {
+            Iterator<DailyPlan> plan = recommender.generatePlanDays(profile, days, options).iterator();
+            for (int day = 1; plan.hasNext(); day++) {
+                if (day > 1) {
+                    json.append(',');
+                }
+                PlanRenderer.appendDayJson(json, "Day " + day, plan.next());
+                if (json.length() >= STREAM_FLUSH_CHARS) {
+                    out.write(json.toString().getBytes(StandardCharsets.UTF_8));
+                    json.setLength(0);
+                }
+            }
+            json.append("]}");
+            out.write(json.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void handleStoredPlan(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equalsIgnoreCase(exchange.getRequestMethod())) {
+                respond(exchange, 405, "{\"error\":\"Only GET is supported\"}");
+                return;
+            }
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            long user;
+            try {
+                user = Long.parseLong(query.getOrDefault("user", ""));
+            } catch (NumberFormatException e) {
+                respond(exchange, 400, "{\"error\":\"Missing or invalid parameter 'user'\"}");
+                return;
+            }
+            StoredPlan stored = store.get(user);
+            if (stored == null) {
+                respond(exchange, 404, "{\"error\":\"No stored plan for this user\"}");
+                return;
+            }
+            CatalogSnapshot catalog = recommender.snapshot();
+            if (stored.catalogFingerprint() != catalog.fingerprint) {
+                respond(exchange, 410, "{\"error\":\"The stored plan refers to a replaced catalog\",\"seed\":"
+                        + stored.seed() + "}");
+                return;
+            }
+            // The ids are copied out of the mapped record once, then rendered
+            CompactPlan plan = stored.plan();
+            StringBuilder json = new StringBuilder(8 * 1024);
+            if ("ids".equals(query.get("format"))) {
+                PlanRenderer.appendCompactJson(json, plan);
+            } else {
+                PlanRenderer.appendPlanJson(json, plan, catalog);
+            }
+            respond(exchange, 200, json);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // Replaces one slot of the user's stored week and stores the result. The profile parameters
+    // must be the ones the plan was generated with, since the store keeps only the ids.
+    private void handleReroll(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                respond(exchange, 405, "{\"error\":\"Only POST is supported\"}");
+                return;
+            }
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            if (!query.containsKey("user") || !query.containsKey("day") || !query.containsKey("slot")
+                    || !query.containsKey("calories")) {
+                respond(exchange, 400, "{\"error\":\"Parameters 'user', 'day', 'slot' and 'calories' are required\"}");
+                return;
+            }
+            long user;
+            int day;
+            double dailyCalories;
+            PlanOptions options;
+            try {
+                user = Long.parseLong(query.get("user"));
+                day = Integer.parseInt(query.get("day"));
+                dailyCalories = Double.parseDouble(query.get("calories"));
+                options = parseOptions(query);
+            } catch (NumberFormatException e) {
+                respond(exchange, 400, "{\"error\":\"Invalid numeric parameter\"}");
+                return;
+            }
+            PlanSlot slot;
+            try {
+                slot = PlanSlot.parse(query.get("slot"));
+            } catch (IllegalArgumentException e) {
+                respond(exchange, 400, "{\"error\":\"Unknown parameter 'slot'\"}");
+                return;
+            }
+            if (day < 1 || day > StoredPlan.DAYS) {
+                respond(exchange, 400, "{\"error\":\"Parameter 'day' must be between 1 and " + StoredPlan.DAYS + "\"}");
+                return;
+            }
+            String optionsError = optionsError(options);
+            if (optionsError != null) {
+                respond(exchange, 400, "{\"error\":\"" + optionsError + "\"}");
+                return;
+            }
+
+            StoredPlan stored = store.get(user);
+            if (stored == null) {
+                respond(exchange, 404, "{\"error\":\"No stored plan for this user\"}");
+                return;
+            }
+            CompactPlan plan = stored.plan();
+            CatalogSnapshot catalog = recommender.snapshot();
+            if (!plan.matches(catalog)) {
+                respond(exchange, 410, "{\"error\":\"The stored plan refers to a replaced catalog\",\"seed\":"
+                        + plan.seed + "}");
+                return;
+            }
+            CompactPlan rerolled = recommender.rerollSlot(catalog, plan, day, slot,
+                    parseProfile(query, dailyCalories, null), options);
+            store.put(user, rerolled);
+            StringBuilder json = new StringBuilder(8 * 1024);
+            if ("ids".equals(query.get("format"))) {
+                PlanRenderer.appendCompactJson(json, rerolled);
+            } else {
+                PlanRenderer.appendPlanJson(json, rerolled, catalog);
+            }
+            respond(exchange, 200, json);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equalsIgnoreCase(exchange.getRequestMethod())) {
+                respond(exchange, 405, "{\"error\":\"Only GET is supported\"}");
+                return;
+            }
+            StringBuilder text = new StringBuilder(2048);
+            CatalogSnapshot catalog = recommender.snapshot();
+            text.append("catalog.version ").append(catalog.version).append('\n');
+            text.append("catalog.recipes ").append(catalog.catalog.recipes.size()).append('\n');
+            text.append("catalog.exercises ").append(catalog.catalog.exercises.size()).append('\n');
+            recommender.metrics().appendText(text, recommender.poolCache());
+            respond(exchange, 200, "text/plain; charset=utf-8", text);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // Options shared by /plan and /plans/reroll. Throws NumberFormatException for malformed numbers.
+    private static PlanOptions parseOptions(Map<String, String> query) {
+        PlanOptions options = PlanOptions.defaults();
+        if ("day".equalsIgnoreCase(query.get("mode"))) {
+            options.wholeDay = true;
+        }
+        String tolerance = query.get("tolerance");
+        if (tolerance != null) {
+            options.calorieTolerance = Double.parseDouble(tolerance);
+        }
+        parseRanking(query, options.ranking);
+        String noRepeatDays = query.get("noRepeatDays");
+        if (noRepeatDays != null) {
+            options.noRepeatDays = "all".equalsIgnoreCase(noRepeatDays)
+                    ? VarietyTracker.WHOLE_PLAN : Integer.parseInt(noRepeatDays);
+        }
+        return options;
+    }
+
+    // Why options cannot be used, or null.
+    private static String optionsError(PlanOptions options) {
+        if (!(options.calorieTolerance >= 0) || Double.isInfinite(options.calorieTolerance)) {
+            return "Parameter 'tolerance' must be a non-negative number";
+        }
+        if (options.noRepeatDays < 0) {
+            return "Parameter 'noRepeatDays' must not be negative";
+        }
+        return options.ranking.error();
+    }
+
+    private static UserProfile parseProfile(Map<String, String> query, double dailyCalories, Long seed) {
+        return new UserProfile(
+                dailyCalories,
+                splitList(query.get("diet")),
+                splitList(query.get("allergies")),
+                splitList(query.get("include")),
+                splitList(query.get("exclude")),
+                query.getOrDefault("equipment", "None"),
+                query.getOrDefault("intensity", "Medium"),
+                seed
+        );
+    }
+
+    private static void parseRanking(Map<String, String> query, MealRanking ranking) {
+        String topK = query.get("topK");
+        if (topK != null) {
+            ranking.topK = Integer.parseInt(topK);
+        }
+        String balanceWeight = query.get("balanceWeight");
+        if (balanceWeight != null) {
+            ranking.balanceWeight = Double.parseDouble(balanceWeight);
+        }
+        String proteinTarget = query.get("proteinTarget");
+        if (proteinTarget != null) {
+            ranking.proteinTarget = Double.parseDouble(proteinTarget);
+        }
+        String carbTarget = query.get("carbTarget");
+        if (carbTarget != null) {
+            ranking.carbTarget = Double.parseDouble(carbTarget);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, CharSequence body) throws IOException {
+        respond(exchange, status, "application/json; charset=utf-8", body);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, CharSequence body) throws IOException {
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    static Set<String> splitList(String value) {
+        Set<String> items = new HashSet<>();
+        if (value == null) {
+            return items;
+        }
+        for (String item : value.split(",")) {
+            String trimmed = item.trim();
+            if (!trimmed.isEmpty()) {
+                items.add(trimmed);
+            }
+        }
+        return items;
+    }
+}
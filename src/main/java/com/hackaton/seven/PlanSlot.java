@@ -0,0 +1,75 @@
+package com.hackaton.seven;
+
+import java.util.Locale;
+
+// The seven slots of a day, in plan order. key is the meal type or exercise category.
+public enum PlanSlot {
+    BREAKFAST("breakfast"),
+    LUNCH("lunch"),
+    DINNER("dinner"),
+    UPPER_BODY("upper_body"),
+    LOWER_BODY("lower_body"),
+    CORE("core"),
+    CARDIO("cardio");
+
+    static final PlanSlot[] MEALS = {BREAKFAST, LUNCH, DINNER};
+
+    final String key;
+
+    PlanSlot(String key) {
+        this.key = key;
+    }
+
+    boolean isMeal() {
+        return ordinal() < MEALS.length;
+    }
+
+    // Accepts the key ("upper_body") or the constant name, in any case.
+    static PlanSlot parse(String name) {
+        String normalized = name.trim().toLowerCase(Locale.ROOT);
+        for (PlanSlot slot : values()) {
+            if (slot.key.equals(normalized)) {
+                return slot;
+            }
+        }
+        throw new IllegalArgumentException("Unknown plan slot '" + name + "'");
+    }
+
+    Recipe recipe(DailyPlan plan) {
+        return switch (this) {
+            case BREAKFAST -> plan.breakfast;
+            case LUNCH -> plan.lunch;
+            case DINNER -> plan.dinner;
+            default -> throw new IllegalStateException(this + " is not a meal slot");
+        };
+    }
+
+    Exercise exercise(DailyPlan plan) {
+        return switch (this) {
+            case UPPER_BODY -> plan.upper;
+            case LOWER_BODY -> plan.lower;
+            case CORE -> plan.core;
+            case CARDIO -> plan.cardio;
+            default -> throw new IllegalStateException(this + " is not an exercise slot");
+        };
+    }
+
+    void set(DailyPlan plan, Recipe recipe) {
+        switch (this) {
+            case BREAKFAST -> plan.breakfast = recipe;
+            case LUNCH -> plan.lunch = recipe;
+            case DINNER -> plan.dinner = recipe;
+            default -> throw new IllegalStateException(this + " is not a meal slot");
+        }
+    }
+
+    void set(DailyPlan plan, Exercise exercise) {
+        switch (this) {
+            case UPPER_BODY -> plan.upper = exercise;
+            case LOWER_BODY -> plan.lower = exercise;
+            case CORE -> plan.core = exercise;
+            case CARDIO -> plan.cardio = exercise;
+            default -> throw new IllegalStateException(this + " is not an exercise slot");
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.hackaton.seven;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Append-only store of generated weeks, one fixed-size record of catalog ids per plan (see
+// StoredPlan). Records go to memory-mapped segment files plans-NNNNNN.seg; a full segment is
+// sealed and the next one started. The newest record of a user wins, and compact() copies the
+// live records out of mostly superseded segments and deletes them. The user -> record index is
+// off-heap (PlanStoreIndex) and rebuilt by scanning the segments on open, so the heap only holds
+// per-segment bookkeeping however many plans are stored.
+//
+// Segment layout: int magic, int version, int recordBytes, int recordCount, padded to 64 bytes,
+// then the records.
+final class PlanStore implements AutoCloseable {
+
+    static final int MAGIC = 0x53564e50; // "SVNP"
+    static final int VERSION = 1;
+    static final long DEFAULT_SEGMENT_BYTES = 128L << 20;
+    // Segments whose live share drops below this are rewritten by compact()
+    static final double COMPACT_BELOW = 0.5;
+
+    private static final int HEADER_BYTES = 64;
+    private static final String INDEX_FILE = "plans.idx";
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final PlanStoreIndex index;
+    private final TreeMap<Integer, Segment> segments = new TreeMap<>();
+    private Segment active;
+
+    private PlanStore(Path directory, long segmentBytes) throws IOException {
+        this.directory = directory;
+        // Segments are addressed with int offsets, so one is at most 2 GB
+        this.recordsPerSegment = (int) ((Math.min(segmentBytes, Integer.MAX_VALUE) - HEADER_BYTES) / StoredPlan.RECORD_BYTES);
+        if (recordsPerSegment < 1) {
+            throw new IllegalArgumentException("Segment size " + segmentBytes + " cannot hold a plan");
+        }
+        Files.createDirectories(directory);
+        long records = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "plans-*.seg")) {
+            for (Path file : files) {
+                Segment segment = Segment.open(file, segmentNumber(file));
+                segments.put(segment.number, segment);
+                records += segment.count;
+            }
+        }
+        this.index = new PlanStoreIndex(directory.resolve(INDEX_FILE), records);
+        for (Segment segment : segments.values()) {
+            for (int i = 0; i < segment.count; i++) {
+                long previous = index.put(segment.buffer.getLong(segment.offset(i)), location(segment.number, i));
+                retire(previous);
+                segment.live++;
+            }
+        }
+        this.active = segments.isEmpty() ? null : segments.lastEntry().getValue();
+    }
+
+    static PlanStore open(Path directory) throws IOException {
+        return open(directory, DEFAULT_SEGMENT_BYTES);
+    }
+
+    static PlanStore open(Path directory, long segmentBytes) throws IOException {
+        return new PlanStore(directory, segmentBytes);
+    }
+
+    // Stores the week as the user's current plan, replacing any earlier one.
+    void put(long user, CompactPlan plan) throws IOException {
+        lock.writeLock().lock();
+        try {
+            Segment segment = writableSegment();
+            int i = segment.count;
+            StoredPlan.write(segment.buffer, segment.offset(i), user, plan);
+            segment.publish(i + 1);
+            retire(index.put(user, location(segment.number, i)));
+            segment.live++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // The user's latest plan as a view over the mapped segment, or null. The view stays readable
+    // after later puts and compactions.
+    StoredPlan get(long user) {
+        lock.readLock().lock();
+        try {
+            long location = index.get(user);
+            if (location == 0) {
+                return null;
+            }
+            Segment segment = segments.get(segmentOf(location));
+            return new StoredPlan(segment.buffer.slice(segment.offset(recordOf(location)), StoredPlan.RECORD_BYTES));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Rewrites the live records of sealed segments that are mostly superseded and deletes those
+    // segments. Returns the number of segments removed.
+    int compact() throws IOException {
+        lock.writeLock().lock();
+        try {
+            List<Segment> victims = new ArrayList<>();
+            for (Segment segment : segments.values()) {
+                if (segment != active && segment.live < segment.count * COMPACT_BELOW) {
+                    victims.add(segment);
+                }
+            }
+            for (Segment victim : victims) {
+                for (int i = 0; i < victim.count; i++) {
+                    long user = victim.buffer.getLong(victim.offset(i));
+                    if (index.get(user) != location(victim.number, i)) {
+                        continue;
+                    }
+                    Segment target = writableSegment();
+                    int j = target.count;
+                    target.buffer.put(target.offset(j), victim.buffer, victim.offset(i), StoredPlan.RECORD_BYTES);
+                    target.publish(j + 1);
+                    index.put(user, location(target.number, j));
+                    target.live++;
+                }
+                segments.remove(victim.number);
+                // Views handed out earlier keep the mapping alive; the file itself can go now
+                Files.delete(victim.file);
+            }
+            return victims.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Forces written records to disk.
+    void flush() {
+        lock.writeLock().lock();
+        try {
+            for (Segment segment : segments.values()) {
+                segment.buffer.force();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        lock.writeLock().lock();
+        try {
+            index.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Segment writableSegment() throws IOException {
+        if (active == null || !active.hasRoom()) {
+            int number = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+            Path file = directory.resolve(String.format("plans-%06d.seg", number));
+            active = Segment.create(file, number, HEADER_BYTES + (long) recordsPerSegment * StoredPlan.RECORD_BYTES);
+            segments.put(number, active);
+        }
+        return active;
+    }
+
+    private void retire(long previousLocation) {
+        if (previousLocation != 0) {
+            segments.get(segmentOf(previousLocation)).live--;
+        }
+    }
+
+    private static long location(int segment, int record) {
+        return ((long) segment << 32) | record;
+    }
+
+    private static int segmentOf(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int recordOf(long location) {
+        return (int) location;
+    }
+
+    private static int segmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        return Integer.parseInt(name.substring("plans-".length(), name.length() - ".seg".length()));
+    }
+
+    private static final class Segment {
+        final Path file;
+        final int number;
+        final MappedByteBuffer buffer;
+        int count;
+        int live;
+
+        private Segment(Path file, int number, MappedByteBuffer buffer, int count) {
+            this.file = file;
+            this.number = number;
+            this.buffer = buffer;
+            this.count = count;
+        }
+
+        static Segment create(Path file, int number, long bytes) throws IOException {
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.SPARSE)) {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            }
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(8, StoredPlan.RECORD_BYTES);
+            buffer.putInt(12, 0);
+            return new Segment(file, number, buffer, 0);
+        }
+
+        static Segment open(Path file, int number) throws IOException {
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            }
+            if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+                throw new IOException(file + " is not a plan segment");
+            }
+            if (buffer.getInt(4) != VERSION || buffer.getInt(8) != StoredPlan.RECORD_BYTES) {
+                throw new IOException("Unsupported plan segment version " + buffer.getInt(4) + " in " + file);
+            }
+            int count = buffer.getInt(12);
+            if (HEADER_BYTES + (long) count * StoredPlan.RECORD_BYTES > buffer.capacity()) {
+                throw new IOException(file + " is truncated");
+            }
+            return new Segment(file, number, buffer, count);
+        }
+
+        // Also covers segments written with another segment size
+        boolean hasRoom() {
+            return offset(count) + (long) StoredPlan.RECORD_BYTES <= buffer.capacity();
+        }
+
+        int offset(int record) {
+            return HEADER_BYTES + record * StoredPlan.RECORD_BYTES;
+        }
+
+        // The record count is written after the record, so a reopened segment never exposes a
+        // half-written record.
+        void publish(int count) {
+            buffer.putInt(12, count);
+            this.count = count;
+        }
+    }
+}
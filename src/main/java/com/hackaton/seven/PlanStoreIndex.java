@@ -0,0 +1,137 @@
+package com.hackaton.seven;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+// Off-heap open-addressing hash table from user id to record location, kept in a memory-mapped
+// scratch file so tens of millions of entries cost page cache rather than heap or direct memory.
+// Each slot is 16 bytes (long key, long location); location 0 marks an empty slot. The table is
+// split into mapped chunks of at most 1 GB and doubles when it is 60% full. Not thread-safe: the
+// PlanStore lock guards it.
+final class PlanStoreIndex implements AutoCloseable {
+
+    private static final int SLOT_BYTES = 16;
+    private static final int CHUNK_SLOT_BITS = 26;
+    private static final int MIN_CAPACITY = 1 << 16;
+
+    private final Path file;
+    private MappedByteBuffer[] chunks;
+    private long capacity;
+    private long size;
+
+    PlanStoreIndex(Path file, long expectedEntries) throws IOException {
+        this.file = file;
+        long capacity = MIN_CAPACITY;
+        while (capacity * 6 / 10 < expectedEntries) {
+            capacity <<= 1;
+        }
+        Files.deleteIfExists(file);
+        map(file, capacity);
+    }
+
+    long size() {
+        return size;
+    }
+
+    // Location of the user's record, or 0 if none.
+    long get(long key) {
+        long mask = capacity - 1;
+        for (long slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+            long location = location(slot);
+            if (location == 0) {
+                return 0;
+            }
+            if (key(slot) == key) {
+                return location;
+            }
+        }
+    }
+
+    // Stores the location and returns the previous one, or 0.
+    long put(long key, long location) throws IOException {
+        if ((size + 1) * 10 > capacity * 6) {
+            grow();
+        }
+        long previous = insert(key, location);
+        if (previous == 0) {
+            size++;
+        }
+        return previous;
+    }
+
+    @Override
+    public void close() throws IOException {
+        chunks = null;
+        Files.deleteIfExists(file);
+    }
+
+    private long insert(long key, long location) {
+        long mask = capacity - 1;
+        for (long slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+            long existing = location(slot);
+            if (existing == 0 || key(slot) == key) {
+                MappedByteBuffer chunk = chunks[(int) (slot >>> CHUNK_SLOT_BITS)];
+                int offset = offset(slot);
+                chunk.putLong(offset, key);
+                chunk.putLong(offset + 8, location);
+                return existing;
+            }
+        }
+    }
+
+    private void grow() throws IOException {
+        MappedByteBuffer[] oldChunks = chunks;
+        long oldCapacity = capacity;
+        Path next = file.resolveSibling(file.getFileName() + ".next");
+        Files.deleteIfExists(next);
+        map(next, oldCapacity << 1);
+        for (long slot = 0; slot < oldCapacity; slot++) {
+            MappedByteBuffer chunk = oldChunks[(int) (slot >>> CHUNK_SLOT_BITS)];
+            int offset = offset(slot);
+            long location = chunk.getLong(offset + 8);
+            if (location != 0) {
+                insert(chunk.getLong(offset), location);
+            }
+        }
+        // The old mapping stays valid until collected; the file name now belongs to the new table
+        Files.move(next, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void map(Path target, long capacity) throws IOException {
+        long chunkSlots = Math.min(capacity, 1L << CHUNK_SLOT_BITS);
+        MappedByteBuffer[] chunks = new MappedByteBuffer[(int) (capacity / chunkSlots)];
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.SPARSE)) {
+            for (int i = 0; i < chunks.length; i++) {
+                chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, i * chunkSlots * SLOT_BYTES, chunkSlots * SLOT_BYTES);
+            }
+        }
+        this.chunks = chunks;
+        this.capacity = capacity;
+    }
+
+    private long key(long slot) {
+        return chunks[(int) (slot >>> CHUNK_SLOT_BITS)].getLong(offset(slot));
+    }
+
+    private long location(long slot) {
+        return chunks[(int) (slot >>> CHUNK_SLOT_BITS)].getLong(offset(slot) + 8);
+    }
+
+    private static int offset(long slot) {
+        return (int) (slot & ((1L << CHUNK_SLOT_BITS) - 1)) * SLOT_BYTES;
+    }
+
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        return key ^ (key >>> 33);
+    }
+}
@@ -0,0 +1,128 @@
+package com.hackaton.seven;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+// Streams many plans to one Writer or channel. Plans are rendered into a single reused buffer that
+// is drained once it grows past FLUSH_THRESHOLD, so a bulk export allocates no per-plan strings.
+// JSON output is one plan per line (JSON Lines); text output separates plans with a blank line.
+final class PlanWriter implements Flushable, Closeable {
+
+    static final int FLUSH_THRESHOLD = 64 * 1024;
+
+    private final PlanRenderer.Format format;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 8 * 1024);
+    private final Writer writer;
+    private final WritableByteChannel channel;
+    private final char[] chars;
+    private final CharsetEncoder encoder;
+    private final ByteBuffer bytes;
+
+    PlanWriter(Writer writer, PlanRenderer.Format format) {
+        this.format = format;
+        this.writer = writer;
+        this.channel = null;
+        this.chars = new char[FLUSH_THRESHOLD];
+        this.encoder = null;
+        this.bytes = null;
+    }
+
+    PlanWriter(WritableByteChannel channel, PlanRenderer.Format format) {
+        this.format = format;
+        this.writer = null;
+        this.channel = channel;
+        this.chars = null;
+        this.encoder = StandardCharsets.UTF_8.newEncoder();
+        this.bytes = ByteBuffer.allocateDirect(FLUSH_THRESHOLD);
+    }
+
+    void write(Map<String, DailyPlan> weeklyPlan) throws IOException {
+        PlanRenderer.appendWeek(buffer, weeklyPlan, format);
+        endRecord();
+    }
+
+    void write(Map<String, DailyPlan> weeklyPlan, long seed) throws IOException {
+        if (format == PlanRenderer.Format.JSON) {
+            PlanRenderer.appendWeekJson(buffer, weeklyPlan, seed);
+        } else {
+            PlanRenderer.appendWeekText(buffer, weeklyPlan);
+        }
+        endRecord();
+    }
+
+    // Writes text rendered elsewhere, for instance by parallel workers, as is.
+    void writeRendered(CharSequence rendered) throws IOException {
+        buffer.append(rendered);
+        if (buffer.length() >= FLUSH_THRESHOLD) {
+            drain();
+        }
+    }
+
+    private void endRecord() throws IOException {
+        buffer.append('\n');
+        if (buffer.length() >= FLUSH_THRESHOLD) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        if (buffer.length() == 0) {
+            return;
+        }
+        if (writer != null) {
+            for (int start = 0; start < buffer.length(); start += chars.length) {
+                int end = Math.min(buffer.length(), start + chars.length);
+                buffer.getChars(start, end, chars, 0);
+                writer.write(chars, 0, end - start);
+            }
+        } else {
+            CharBuffer source = CharBuffer.wrap(buffer);
+            encoder.reset();
+            CoderResult result;
+            do {
+                result = encoder.encode(source, bytes, true);
+                writeBytes();
+            } while (result.isOverflow());
+            while (encoder.flush(bytes).isOverflow()) {
+                writeBytes();
+            }
+            writeBytes();
+        }
+        buffer.setLength(0);
+    }
+
+    private void writeBytes() throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        bytes.clear();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        drain();
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        if (writer != null) {
+            writer.close();
+        } else {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.hackaton.seven;
+
+import java.util.*;
+
+// Reads one user profile from a JSON object, the unit of the JSON Lines batch input:
+//   {"calories":2000,"diet":["vegan"],"allergies":["nuts"],"include":["tofu"],"exclude":["mushrooms"],
+//    "equipment":"None","intensity":"Medium","seed":42}
+// Only calories is required; lists default to empty, equipment to None, intensity to Medium.
+// Unknown fields are skipped. Hand-written so the batch path needs no JSON library and stays cheap.
+final class ProfileJson {
+
+    private final String json;
+    private int pos;
+
+    private ProfileJson(String json) {
+        this.json = json;
+    }
+
+    static UserProfile parse(String json) {
+        return new ProfileJson(json).profile();
+    }
+
+    private UserProfile profile() {
+        Double calories = null;
+        Set<String> diet = Collections.emptySet();
+        Set<String> allergies = Collections.emptySet();
+        Set<String> include = Collections.emptySet();
+        Set<String> exclude = Collections.emptySet();
+        String equipment = "None";
+        String intensity = "Medium";
+        Long seed = null;
+
+        expect('{');
+        if (!consume('}')) {
+            do {
+                String key = string();
+                expect(':');
+                switch (key) {
+                    case "calories", "dailyCalories" -> calories = number();
+                    case "diet" -> diet = stringSet();
+                    case "allergies" -> allergies = stringSet();
+                    case "include" -> include = stringSet();
+                    case "exclude" -> exclude = stringSet();
+                    case "equipment" -> equipment = string();
+                    case "intensity" -> intensity = string();
+                    case "seed" -> seed = nullOr() ? null : integer();
+                    default -> skipValue();
+                }
+            } while (consume(','));
+            expect('}');
+        }
+        skipWhitespace();
+        if (pos != json.length()) {
+            throw error("Unexpected trailing content");
+        }
+        if (calories == null) {
+            throw error("Missing required field 'calories'");
+        }
+        return new UserProfile(calories, diet, allergies, include, exclude, equipment, intensity, seed);
+    }
+
+    private Set<String> stringSet() {
+        if (nullOr()) {
+            return Collections.emptySet();
+        }
+        expect('[');
+        if (consume(']')) {
+            return Collections.emptySet();
+        }
+        Set<String> values = new HashSet<>();
+        do {
+            values.add(string());
+        } while (consume(','));
+        expect(']');
+        return values;
+    }
+
+    private String string() {
+        expect('"');
+        StringBuilder out = null;
+        int start = pos;
+        while (pos < json.length()) {
+            char c = json.charAt(pos++);
+            if (c == '"') {
+                return out == null ? json.substring(start, pos - 1) : out.toString();
+            }
+            if (c == '\\') {
+                if (out == null) {
+                    out = new StringBuilder().append(json, start, pos - 1);
+                }
+                if (pos >= json.length()) {
+                    break;
+                }
+                char escaped = json.charAt(pos++);
+                switch (escaped) {
+                    case 'n' -> out.append('\n');
+                    case 't' -> out.append('\t');
+                    case 'r' -> out.append('\r');
+                    case 'b' -> out.append('\b');
+                    case 'f' -> out.append('\f');
+                    case 'u' -> {
+                        if (pos + 4 > json.length()) {
+                            throw error("Truncated \\u escape");
+                        }
+                        out.append((char) Integer.parseInt(json, pos, pos + 4, 16));
+                        pos += 4;
+                    }
+                    default -> out.append(escaped);
+                }
+            } else if (out != null) {
+                out.append(c);
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private double number() {
+        skipWhitespace();
+        int start = pos;
+        while (pos < json.length() && "+-0123456789.eE".indexOf(json.charAt(pos)) >= 0) {
+            pos++;
+        }
+        try {
+            return Double.parseDouble(json.substring(start, pos));
+        } catch (NumberFormatException e) {
+            throw error("Invalid number");
+        }
+    }
+
+    private long integer() {
+        skipWhitespace();
+        int start = pos;
+        while (pos < json.length() && "-0123456789".indexOf(json.charAt(pos)) >= 0) {
+            pos++;
+        }
+        try {
+            return Long.parseLong(json, start, pos, 10);
+        } catch (NumberFormatException e) {
+            throw error("Invalid integer");
+        }
+    }
+
+    private boolean nullOr() {
+        skipWhitespace();
+        if (json.startsWith("null", pos)) {
+            pos += 4;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipValue() {
+        skipWhitespace();
+        if (pos >= json.length()) {
+            throw error("Missing value");
+        }
+        char c = json.charAt(pos);
+        if (c == '"') {
+            string();
+        } else if (c == '{' || c == '[') {
+            char close = c == '{' ? '}' : ']';
+            pos++;
+            if (consume(close)) {
+                return;
+            }
+            do {
+                if (c == '{') {
+                    string();
+                    expect(':');
+                }
+                skipValue();
+            } while (consume(','));
+            expect(close);
+        } else {
+            while (pos < json.length() && ",}] \t\r\n".indexOf(json.charAt(pos)) < 0) {
+                pos++;
+            }
+        }
+    }
+
+    private void expect(char c) {
+        if (!consume(c)) {
+            throw error("Expected '" + c + "'");
+        }
+    }
+
+    private boolean consume(char c) {
+        skipWhitespace();
+        if (pos < json.length() && json.charAt(pos) == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at column " + (pos + 1));
+    }
+}
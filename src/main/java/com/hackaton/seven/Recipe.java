@@ -1,12 +1,23 @@
 package com.hackaton.seven;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
 public class Recipe {
+    private static final int[] NO_INGREDIENTS = new int[0];
+
     String name, mealType;
     List<String> dietaryTags, allergies, ingredients;
     double calories, carbs, protein, fats;
+    long dietMask, allergyMask;
+    // balanceScore(), computed once when the catalog is indexed
+    double balance;
+    // Dense position in the catalog, assigned when it is indexed; -1 for placeholders
+    int id = -1;
+    // Distinct ingredient ids from IngredientVocabulary, assigned when the catalog is indexed
+    int[] ingredientIds = NO_INGREDIENTS;
 
     public Recipe(String name, String mealType, List<String> dietaryTags, List<String> allergies,
                   double calories, double carbs, double protein, double fats, List<String> ingredients) {
@@ -21,16 +32,49 @@ public class Recipe {
         this.ingredients = ingredients;
     }
 
+    // Stands in for a meal slot nothing in the catalog can fill.
+    static Recipe placeholder(String mealType) {
+        return new Recipe("No suitable " + mealType + " found", mealType, new ArrayList<>(), new ArrayList<>(), 0, 0, 0, 0, Arrays.asList());
+    }
+
     public boolean matchesRestrictions(Set<String> userDiet, Set<String> userAllergies) {
         return dietaryTags.containsAll(userDiet) && allergies.stream().noneMatch(userAllergies::contains);
     }
 
+    public boolean matchesRestrictions(RestrictionMask mask) {
+        if ((dietMask & mask.requiredDiet) != mask.requiredDiet || (allergyMask & mask.excludedAllergies) != 0) {
+            return false;
+        }
+        for (int id : mask.includedIngredients) {
+            if (!containsIngredient(id)) {
+                return false;
+            }
+        }
+        for (int id : mask.excludedIngredients) {
+            if (containsIngredient(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean containsIngredient(int id) {
+        for (int own : ingredientIds) {
+            if (own == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public double balanceScore() {
         return 100 - Math.abs(carbs - 50) - Math.abs(protein - 20) - Math.abs(fats - 30);
     }
 
     @Override
     public String toString() {
-        return name + " [" + mealType + "]: " + calories + " kcal | " + ingredients;
+        StringBuilder out = new StringBuilder(128);
+        PlanRenderer.appendRecipeText(out, this);
+        return out.toString();
     }
 }
@@ -0,0 +1,287 @@
+package com.hackaton.seven;
+
+import java.util.Arrays;
+
+// Immutable compressed set of recipe positions, laid out like a Roaring bitmap: positions are
+// grouped by their high 16 bits, and each group of up to 65536 is stored as a sorted char array
+// while sparse (at most 4096 entries) or as a 1024-word bitset once dense. AND and ANDNOT work
+// group by group, so their cost follows the compressed size of the operands rather than the size
+// of the catalog.
+final class RecipeBitmap {
+
+    static final RecipeBitmap EMPTY = new RecipeBitmap(new char[0], new Container[0], 0);
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int WORDS = 1 << 16 >>> 6;
+
+    private final char[] keys;
+    private final Container[] containers;
+    private final int cardinality;
+
+    private RecipeBitmap(char[] keys, Container[] containers, int count) {
+        this.keys = keys;
+        this.containers = containers;
+        int cardinality = 0;
+        for (int i = 0; i < count; i++) {
+            cardinality += containers[i].cardinality;
+        }
+        this.cardinality = cardinality;
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    RecipeBitmap and(RecipeBitmap other) {
+        int n = Math.min(keys.length, other.keys.length);
+        char[] outKeys = new char[n];
+        Container[] out = new Container[n];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length && j < other.keys.length) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container c = containers[i].and(other.containers[j]);
+                if (c.cardinality > 0) {
+                    outKeys[count] = keys[i];
+                    out[count++] = c;
+                }
+                i++;
+                j++;
+            }
+        }
+        return of(outKeys, out, count);
+    }
+
+    RecipeBitmap andNot(RecipeBitmap other) {
+        if (other.isEmpty() || isEmpty()) {
+            return this;
+        }
+        char[] outKeys = new char[keys.length];
+        Container[] out = new Container[keys.length];
+        int count = 0;
+        int j = 0;
+        for (int i = 0; i < keys.length; i++) {
+            while (j < other.keys.length && other.keys[j] < keys[i]) {
+                j++;
+            }
+            Container c = j < other.keys.length && other.keys[j] == keys[i]
+                    ? containers[i].andNot(other.containers[j]) : containers[i];
+            if (c.cardinality > 0) {
+                outKeys[count] = keys[i];
+                out[count++] = c;
+            }
+        }
+        return of(outKeys, out, count);
+    }
+
+    // How many groups are stored as bitsets rather than sorted arrays.
+    int bitsetContainers() {
+        int n = 0;
+        for (Container c : containers) {
+            if (c.words != null) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    // The positions in ascending order.
+    int[] toArray() {
+        int[] out = new int[cardinality];
+        int n = 0;
+        for (int i = 0; i < keys.length; i++) {
+            n = containers[i].copyTo(out, n, keys[i] << 16);
+        }
+        return out;
+    }
+
+    private static RecipeBitmap of(char[] keys, Container[] containers, int count) {
+        if (count == 0) {
+            return EMPTY;
+        }
+        return new RecipeBitmap(Arrays.copyOf(keys, count), Arrays.copyOf(containers, count), count);
+    }
+
+    // Collects positions added in ascending order.
+    static final class Builder {
+        private char[] keys = new char[4];
+        private Container[] containers = new Container[4];
+        private int count;
+        private char[] values = new char[16];
+        private long[] words;
+        private int size;
+        private int currentKey = -1;
+
+        void add(int position) {
+            int key = position >>> 16;
+            if (key != currentKey) {
+                seal();
+                currentKey = key;
+            }
+            char low = (char) position;
+            if (words != null) {
+                words[low >>> 6] |= 1L << low;
+                size++;
+                return;
+            }
+            if (size == ARRAY_MAX) {
+                words = new long[WORDS];
+                for (int i = 0; i < size; i++) {
+                    words[values[i] >>> 6] |= 1L << values[i];
+                }
+                words[low >>> 6] |= 1L << low;
+                size++;
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, size * 2));
+            }
+            values[size++] = low;
+        }
+
+        RecipeBitmap build() {
+            seal();
+            return of(keys, containers, count);
+        }
+
+        private void seal() {
+            if (size == 0) {
+                return;
+            }
+            if (count == keys.length) {
+                keys = Arrays.copyOf(keys, count * 2);
+                containers = Arrays.copyOf(containers, count * 2);
+            }
+            keys[count] = (char) currentKey;
+            containers[count++] = words != null ? new Container(null, words, size)
+                    : new Container(Arrays.copyOf(values, size), null, size);
+            words = null;
+            size = 0;
+        }
+    }
+
+    // One 65536-wide group: exactly one of values (sorted) and words is set.
+    private static final class Container {
+        final char[] values;
+        final long[] words;
+        final int cardinality;
+
+        Container(char[] values, long[] words, int cardinality) {
+            this.values = values;
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        boolean contains(char low) {
+            return words != null ? (words[low >>> 6] & (1L << low)) != 0 : Arrays.binarySearch(values, low) >= 0;
+        }
+
+        Container and(Container other) {
+            if (words != null && other.words != null) {
+                long[] out = new long[WORDS];
+                int cardinality = 0;
+                for (int i = 0; i < WORDS; i++) {
+                    out[i] = words[i] & other.words[i];
+                    cardinality += Long.bitCount(out[i]);
+                }
+                return compact(out, cardinality);
+            }
+            if (values != null && other.values != null) {
+                char[] out = new char[Math.min(cardinality, other.cardinality)];
+                int n = 0;
+                int i = 0;
+                int j = 0;
+                while (i < values.length && j < other.values.length) {
+                    if (values[i] < other.values[j]) {
+                        i++;
+                    } else if (values[i] > other.values[j]) {
+                        j++;
+                    } else {
+                        out[n++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+                return new Container(n == out.length ? out : Arrays.copyOf(out, n), null, n);
+            }
+            Container sparse = values != null ? this : other;
+            Container dense = values != null ? other : this;
+            return sparse.retain(dense, true);
+        }
+
+        Container andNot(Container other) {
+            if (values != null) {
+                return retain(other, false);
+            }
+            long[] out = words.clone();
+            if (other.words != null) {
+                for (int i = 0; i < WORDS; i++) {
+                    out[i] &= ~other.words[i];
+                }
+            } else {
+                for (char low : other.values) {
+                    out[low >>> 6] &= ~(1L << low);
+                }
+            }
+            int cardinality = 0;
+            for (long word : out) {
+                cardinality += Long.bitCount(word);
+            }
+            return compact(out, cardinality);
+        }
+
+        // The values of this array container that are (or are not) in other.
+        private Container retain(Container other, boolean present) {
+            char[] out = new char[values.length];
+            int n = 0;
+            for (char low : values) {
+                if (other.contains(low) == present) {
+                    out[n++] = low;
+                }
+            }
+            return new Container(n == out.length ? out : Arrays.copyOf(out, n), null, n);
+        }
+
+        private static Container compact(long[] words, int cardinality) {
+            if (cardinality > ARRAY_MAX) {
+                return new Container(null, words, cardinality);
+            }
+            char[] out = new char[cardinality];
+            int n = 0;
+            for (int i = 0; i < WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    out[n++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new Container(out, null, cardinality);
+        }
+
+        int copyTo(int[] out, int n, int high) {
+            if (values != null) {
+                for (char low : values) {
+                    out[n++] = high | low;
+                }
+                return n;
+            }
+            for (int i = 0; i < WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    out[n++] = high | (i << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+            return n;
+        }
+    }
+}
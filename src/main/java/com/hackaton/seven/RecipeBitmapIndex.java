@@ -0,0 +1,95 @@
+package com.hackaton.seven;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Inverted index over the rows of RecipeColumns: one compressed bitmap per meal type, diet tag,
+// allergen and ingredient. Queries that name ingredients are answered by intersecting the meal
+// type, diet and included-ingredient bitmaps (smallest first) and subtracting the allergen and
+// excluded-ingredient bitmaps, so their cost follows the bitmap sizes instead of a catalog scan.
+// Rows are in calorie order within a meal type, so the result is too.
+final class RecipeBitmapIndex {
+
+    private final RecipeColumns columns;
+    private final RecipeBitmap[] mealTypes;
+    private final RecipeBitmap[] dietTags;
+    private final RecipeBitmap[] allergens;
+    private final RecipeBitmap[] ingredients;
+
+    RecipeBitmapIndex(RecipeColumns columns, int mealTypeCount, int dietTagCount, int allergenCount, int ingredientCount) {
+        this.columns = columns;
+        RecipeBitmap.Builder[] mealTypes = builders(mealTypeCount);
+        RecipeBitmap.Builder[] dietTags = builders(dietTagCount);
+        RecipeBitmap.Builder[] allergens = builders(allergenCount);
+        RecipeBitmap.Builder[] ingredients = builders(ingredientCount);
+        for (int row = 0; row < columns.rows.length; row++) {
+            mealTypes[columns.mealType[row]].add(row);
+            addBits(dietTags, columns.dietMasks[row], row);
+            addBits(allergens, columns.allergyMasks[row], row);
+            for (int id : columns.rows[row].ingredientIds) {
+                ingredients[id].add(row);
+            }
+        }
+        this.mealTypes = build(mealTypes);
+        this.dietTags = build(dietTags);
+        this.allergens = build(allergens);
+        this.ingredients = build(ingredients);
+    }
+
+    // Recipes of the (normalized) meal type that satisfy the restrictions, in calorie order.
+    Recipe[] filter(String mealTypeKey, RestrictionMask restrictions) {
+        int mealType = columns.mealTypeId(mealTypeKey);
+        if (mealType < 0 || !restrictions.satisfiable) {
+            return new Recipe[0];
+        }
+        List<RecipeBitmap> required = new ArrayList<>();
+        required.add(mealTypes[mealType]);
+        for (long bits = restrictions.requiredDiet; bits != 0; bits &= bits - 1) {
+            required.add(dietTags[Long.numberOfTrailingZeros(bits)]);
+        }
+        for (int id : restrictions.includedIngredients) {
+            required.add(ingredients[id]);
+        }
+        required.sort((a, b) -> Integer.compare(a.cardinality(), b.cardinality()));
+
+        RecipeBitmap result = required.get(0);
+        for (int i = 1; i < required.size() && !result.isEmpty(); i++) {
+            result = result.and(required.get(i));
+        }
+        for (long bits = restrictions.excludedAllergies; bits != 0 && !result.isEmpty(); bits &= bits - 1) {
+            result = result.andNot(allergens[Long.numberOfTrailingZeros(bits)]);
+        }
+        for (int i = 0; i < restrictions.excludedIngredients.length && !result.isEmpty(); i++) {
+            result = result.andNot(ingredients[restrictions.excludedIngredients[i]]);
+        }
+
+        int[] rows = result.toArray();
+        Recipe[] matching = new Recipe[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            matching[i] = columns.rows[rows[i]];
+        }
+        return matching;
+    }
+
+    private static RecipeBitmap.Builder[] builders(int count) {
+        RecipeBitmap.Builder[] builders = new RecipeBitmap.Builder[count];
+        for (int i = 0; i < count; i++) {
+            builders[i] = new RecipeBitmap.Builder();
+        }
+        return builders;
+    }
+
+    private static void addBits(RecipeBitmap.Builder[] builders, long mask, int row) {
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            builders[Long.numberOfTrailingZeros(bits)].add(row);
+        }
+    }
+
+    private static RecipeBitmap[] build(RecipeBitmap.Builder[] builders) {
+        RecipeBitmap[] bitmaps = new RecipeBitmap[builders.length];
+        for (int i = 0; i < builders.length; i++) {
+            bitmaps[i] = builders[i].build();
+        }
+        return bitmaps;
+    }
+}
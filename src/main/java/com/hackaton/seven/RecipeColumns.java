@@ -0,0 +1,125 @@
+package com.hackaton.seven;
+
+import java.util.*;
+
+// Struct-of-arrays copy of the recipe catalog, ordered by (meal type, calories) so each meal type
+// is one contiguous range. Filtering and calorie scoring read only primitive columns, in blocks,
+// through a RecipeScan that is vectorized when the runtime allows it.
+final class RecipeColumns {
+
+    static final int BLOCK = 4096;
+
+    final Recipe[] rows;
+    final double[] calories;
+    final double[] carbs;
+    final double[] protein;
+    final double[] fats;
+    final int[] mealType;
+    final long[] dietMasks;
+    final long[] allergyMasks;
+
+    private final Map<String, Integer> mealTypeIds = new HashMap<>();
+    private final int[] rangeStart;
+    private final int[] rangeEnd;
+    private final RecipeScan scan;
+
+    // partitions: recipes per normalized meal type, each already sorted by calories
+    RecipeColumns(Map<String, Recipe[]> partitions, RecipeScan scan) {
+        this.scan = scan;
+        int total = 0;
+        for (Recipe[] partition : partitions.values()) {
+            total += partition.length;
+        }
+        rows = new Recipe[total];
+        calories = new double[total];
+        carbs = new double[total];
+        protein = new double[total];
+        fats = new double[total];
+        mealType = new int[total];
+        dietMasks = new long[total];
+        allergyMasks = new long[total];
+        rangeStart = new int[partitions.size()];
+        rangeEnd = new int[partitions.size()];
+
+        int next = 0;
+        for (Map.Entry<String, Recipe[]> entry : new TreeMap<>(partitions).entrySet()) {
+            int id = mealTypeIds.size();
+            mealTypeIds.put(entry.getKey(), id);
+            rangeStart[id] = next;
+            for (Recipe r : entry.getValue()) {
+                rows[next] = r;
+                calories[next] = r.calories;
+                carbs[next] = r.carbs;
+                protein[next] = r.protein;
+                fats[next] = r.fats;
+                mealType[next] = id;
+                dietMasks[next] = r.dietMask;
+                allergyMasks[next] = r.allergyMask;
+                next++;
+            }
+            rangeEnd[id] = next;
+        }
+    }
+
+    RecipeScan scan() {
+        return scan;
+    }
+
+    // Dense id of the (normalized) meal type, or -1 if the catalog has none of it.
+    int mealTypeId(String mealTypeKey) {
+        Integer id = mealTypeIds.get(mealTypeKey);
+        return id == null ? -1 : id;
+    }
+
+    int mealTypeCount() {
+        return rangeStart.length;
+    }
+
+    // Recipes of the (normalized) meal type that satisfy the restrictions, in calorie order.
+    Recipe[] filter(String mealTypeKey, RestrictionMask restrictions) {
+        Integer id = mealTypeIds.get(mealTypeKey);
+        if (id == null || !restrictions.satisfiable) {
+            return new Recipe[0];
+        }
+        int from = rangeStart[id];
+        int to = rangeEnd[id];
+        int[] positions = new int[to - from];
+        int count = scan.filter(dietMasks, allergyMasks, from, to, restrictions.requiredDiet,
+                restrictions.excludedAllergies, positions);
+        Recipe[] matching = new Recipe[count];
+        for (int i = 0; i < count; i++) {
+            matching[i] = rows[positions[i]];
+        }
+        return matching;
+    }
+
+    // The out.length recipes of the meal type closest to targetCalories that satisfy the
+    // restrictions, found by a blocked filter + distance scan without building a pool.
+    // Returns how many were written.
+    int scanClosest(String mealTypeKey, double targetCalories, RestrictionMask restrictions, Recipe[] out) {
+        Integer id = mealTypeIds.get(mealTypeKey);
+        if (id == null || !restrictions.satisfiable) {
+            return 0;
+        }
+        TopK best = new TopK(out.length);
+        int[] positions = new int[BLOCK];
+        double[] distances = new double[BLOCK];
+        for (int from = rangeStart[id], end = rangeEnd[id]; from < end; from += BLOCK) {
+            int to = Math.min(end, from + BLOCK);
+            int count = scan.filter(dietMasks, allergyMasks, from, to, restrictions.requiredDiet,
+                    restrictions.excludedAllergies, positions);
+            if (count == 0) {
+                continue;
+            }
+            scan.calorieDistances(calories, from, to, targetCalories, distances);
+            for (int i = 0; i < count; i++) {
+                int position = positions[i];
+                best.offer(position, distances[position - from]);
+            }
+        }
+        for (int k = 0; k < best.size(); k++) {
+            out[k] = rows[best.position(k)];
+        }
+        return best.size();
+    }
+}
@@ -0,0 +1,117 @@
+package com.hackaton.seven;
+
+import java.util.*;
+
+// Immutable view of the recipe catalog, partitioned by meal type and ordered by calories
+// inside each partition. Built once, then shared by every request.
+final class RecipeIndex {
+
+    private static final Recipe[] NO_RECIPES = new Recipe[0];
+
+    private final Map<String, Recipe[]> recipesByMealType;
+    private final RecipeColumns columns;
+    private final RecipeBitmapIndex bitmaps;
+    private final TagVocabulary dietTags = new TagVocabulary();
+    private final TagVocabulary allergens = new TagVocabulary();
+    private final IngredientVocabulary ingredients;
+    private final int size;
+
+    RecipeIndex(List<Recipe> recipes) {
+        this(recipes, new IngredientVocabulary());
+    }
+
+    RecipeIndex(List<Recipe> recipes, IngredientVocabulary ingredients) {
+        this.size = recipes.size();
+        this.ingredients = ingredients;
+        Map<String, List<Recipe>> partitions = new HashMap<>();
+        int id = 0;
+        for (Recipe r : recipes) {
+            r.id = id++;
+            r.dietMask = dietTags.internAll(r.dietaryTags);
+            r.allergyMask = allergens.internAll(r.allergies);
+            r.balance = r.balanceScore();
+            r.ingredientIds = ingredients.internAll(r.ingredients);
+            partitions.computeIfAbsent(normalize(r.mealType), k -> new ArrayList<>()).add(r);
+        }
+
+        Map<String, Recipe[]> byMealType = new HashMap<>();
+        for (Map.Entry<String, List<Recipe>> entry : partitions.entrySet()) {
+            Recipe[] sorted = entry.getValue().toArray(NO_RECIPES);
+            Arrays.sort(sorted, Comparator.comparingDouble(r -> r.calories));
+            byMealType.put(entry.getKey(), sorted);
+        }
+        this.recipesByMealType = byMealType;
+        this.columns = new RecipeColumns(byMealType, RecipeScan.best());
+        this.bitmaps = new RecipeBitmapIndex(columns, columns.mealTypeCount(), dietTags.size(), allergens.size(),
+                ingredients.size());
+    }
+
+    static String normalize(String key) {
+        return key.trim().toLowerCase(Locale.ROOT);
+    }
+
+    int size() {
+        return size;
+    }
+
+    RestrictionMask compile(Set<String> diet, Set<String> allergies) {
+        return RestrictionMask.compile(diet, allergies, dietTags, allergens);
+    }
+
+    RestrictionMask compile(Set<String> diet, Set<String> allergies, Set<String> include, Set<String> exclude) {
+        return RestrictionMask.compile(diet, allergies, include, exclude, dietTags, allergens, ingredients);
+    }
+
+    IngredientVocabulary ingredients() {
+        return ingredients;
+    }
+
+    RecipeColumns columns() {
+        return columns;
+    }
+
+    Recipe[] recipes(String mealType) {
+        return recipesByMealType.getOrDefault(normalize(mealType), NO_RECIPES);
+    }
+
+    // All recipes of the meal type that satisfy the restrictions, still ordered by calories.
+    // Ingredient terms go through the bitmap index; tag-only restrictions scan the columns.
+    CandidatePool filter(String mealType, RestrictionMask restrictions) {
+        if (!restrictions.satisfiable) {
+            return CandidatePool.EMPTY;
+        }
+        String key = normalize(mealType);
+        return new CandidatePool(this, restrictions.hasIngredients()
+                ? bitmaps.filter(key, restrictions) : columns.filter(key, restrictions));
+    }
+
+    // First position whose calories are >= target.
+    static int lowerBound(double[] kcal, double target) {
+        int lo = 0;
+        int hi = kcal.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (kcal[mid] < target) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // First position whose calories are > target.
+    static int upperBound(double[] kcal, double target) {
+        int lo = 0;
+        int hi = kcal.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (kcal[mid] <= target) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,26 @@
+package com.hackaton.seven;
+
+// Tight loops over RecipeColumns. VectorRecipeScan uses jdk.incubator.vector and is only loaded
+// when the runtime was started with --add-modules jdk.incubator.vector; otherwise the scalar
+// loops are used.
+interface RecipeScan {
+
+    // Writes the positions in [from, to) whose masks satisfy the restrictions; returns how many.
+    int filter(long[] dietMasks, long[] allergyMasks, int from, int to, long requiredDiet, long excludedAllergies, int[] out);
+
+    // out[i - from] = |calories[i] - target| for i in [from, to).
+    void calorieDistances(double[] calories, int from, int to, double target, double[] out);
+
+    static RecipeScan best() {
+        if (!Boolean.getBoolean("recommender.scan.scalar")
+                && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (RecipeScan) Class.forName("com.hackaton.seven.VectorRecipeScan")
+                        .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Fall through to the scalar loops
+            }
+        }
+        return new ScalarRecipeScan();
+    }
+}
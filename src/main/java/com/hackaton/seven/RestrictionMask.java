@@ -0,0 +1,98 @@
+package com.hackaton.seven;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+// A user's diet, allergy and ingredient sets compiled against the catalog vocabularies.
+final class RestrictionMask {
+
+    static final int[] NO_INGREDIENTS = new int[0];
+    static final RestrictionMask UNSATISFIABLE = new RestrictionMask(0L, 0L, false);
+
+    final long requiredDiet;
+    final long excludedAllergies;
+    // Sorted, distinct ingredient ids every recipe must contain / must not contain
+    final int[] includedIngredients;
+    final int[] excludedIngredients;
+    final boolean satisfiable;
+
+    RestrictionMask(long requiredDiet, long excludedAllergies, boolean satisfiable) {
+        this(requiredDiet, excludedAllergies, NO_INGREDIENTS, NO_INGREDIENTS, satisfiable);
+    }
+
+    RestrictionMask(long requiredDiet, long excludedAllergies, int[] includedIngredients, int[] excludedIngredients,
+                    boolean satisfiable) {
+        this.requiredDiet = requiredDiet;
+        this.excludedAllergies = excludedAllergies;
+        this.includedIngredients = includedIngredients;
+        this.excludedIngredients = excludedIngredients;
+        this.satisfiable = satisfiable;
+    }
+
+    // Whether recipes have to be checked against ingredient ids, not only the tag masks.
+    boolean hasIngredients() {
+        return includedIngredients.length > 0 || excludedIngredients.length > 0;
+    }
+
+    static RestrictionMask compile(Set<String> diet, Set<String> allergies, TagVocabulary dietTags, TagVocabulary allergens) {
+        return compile(diet, allergies, Collections.emptySet(), Collections.emptySet(), dietTags, allergens, null);
+    }
+
+    static RestrictionMask compile(Set<String> diet, Set<String> allergies, Set<String> include, Set<String> exclude,
+                                   TagVocabulary dietTags, TagVocabulary allergens, IngredientVocabulary ingredients) {
+        long required = 0L;
+        for (String tag : diet) {
+            int id = dietTags.idOf(tag);
+            if (id < 0) {
+                // No recipe carries this tag, so containsAll can never hold
+                return UNSATISFIABLE;
+            }
+            required |= 1L << id;
+        }
+        long excluded = 0L;
+        for (String allergy : allergies) {
+            int id = allergens.idOf(allergy);
+            if (id >= 0) {
+                excluded |= 1L << id;
+            }
+        }
+        if (include.isEmpty() && exclude.isEmpty()) {
+            return new RestrictionMask(required, excluded, true);
+        }
+        int[] included = new int[include.size()];
+        int n = 0;
+        for (String ingredient : include) {
+            int id = ingredients.idOf(ingredient);
+            if (id < 0) {
+                // No recipe contains it
+                return UNSATISFIABLE;
+            }
+            included[n++] = id;
+        }
+        int[] excludedIds = new int[exclude.size()];
+        int m = 0;
+        for (String ingredient : exclude) {
+            int id = ingredients.idOf(ingredient);
+            if (id >= 0) {
+                excludedIds[m++] = id;
+            }
+        }
+        return new RestrictionMask(required, excluded, sortedDistinct(included, n), sortedDistinct(excludedIds, m), true);
+    }
+
+    private static int[] sortedDistinct(int[] ids, int n) {
+        if (n == 0) {
+            return NO_INGREDIENTS;
+        }
+        int[] sorted = Arrays.copyOf(ids, n);
+        Arrays.sort(sorted);
+        int distinct = 1;
+        for (int i = 1; i < n; i++) {
+            if (sorted[i] != sorted[distinct - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        return distinct == n ? sorted : Arrays.copyOf(sorted, distinct);
+    }
+}
@@ -0,0 +1,22 @@
+package com.hackaton.seven;
+
+final class ScalarRecipeScan implements RecipeScan {
+
+    @Override
+    public int filter(long[] dietMasks, long[] allergyMasks, int from, int to, long requiredDiet, long excludedAllergies, int[] out) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if ((dietMasks[i] & requiredDiet) == requiredDiet && (allergyMasks[i] & excludedAllergies) == 0) {
+                out[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void calorieDistances(double[] calories, int from, int to, double target, double[] out) {
+        for (int i = from; i < to; i++) {
+            out[i - from] = Math.abs(calories[i] - target);
+        }
+    }
+}
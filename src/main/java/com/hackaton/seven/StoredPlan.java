@@ -0,0 +1,50 @@
+package com.hackaton.seven;
+
+import java.nio.ByteBuffer;
+
+// View of one stored week over the mapped segment: the header fields are read in place, and plan()
+// copies the 49 ids to the heap for rendering. The record holds the ids of a CompactPlan, -1 for a
+// "No suitable ..." placeholder.
+final class StoredPlan {
+
+    static final int DAYS = 7;
+    static final int SLOTS_PER_DAY = CompactPlan.SLOTS_PER_DAY;
+
+    // long user, long seed, long catalog fingerprint, int slot count, DAYS x SLOTS_PER_DAY x int id
+    static final int RECORD_BYTES = 3 * Long.BYTES + Integer.BYTES + DAYS * SLOTS_PER_DAY * Integer.BYTES;
+    private static final int SLOTS_OFFSET = 3 * Long.BYTES + Integer.BYTES;
+
+    private final ByteBuffer record;
+
+    StoredPlan(ByteBuffer record) {
+        this.record = record;
+    }
+
+    static void write(ByteBuffer out, int offset, long user, CompactPlan plan) {
+        if (plan.days() != DAYS) {
+            throw new IllegalArgumentException("Only weekly plans can be stored, got " + plan.days() + " days");
+        }
+        out.putLong(offset, user);
+        out.putLong(offset + 8, plan.seed);
+        out.putLong(offset + 16, plan.catalogFingerprint);
+        out.putInt(offset + 24, DAYS * SLOTS_PER_DAY);
+        plan.writeIds(out, offset + SLOTS_OFFSET);
+    }
+
+    long user() {
+        return record.getLong(0);
+    }
+
+    long seed() {
+        return record.getLong(8);
+    }
+
+    long catalogFingerprint() {
+        return record.getLong(16);
+    }
+
+    // A heap copy of the record.
+    CompactPlan plan() {
+        return CompactPlan.readIds(record, SLOTS_OFFSET, DAYS, seed(), catalogFingerprint());
+    }
+}
@@ -0,0 +1,305 @@
+package com.hackaton.seven;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.SplittableRandom;
+
+// Writes synthetic catalogs of any size as the CSV files Catalog reads, so scale tests go through
+// the same loading path as the real catalog:
+//   java com.hackaton.seven.SyntheticCatalog 1000000 100000 target/catalog-1m [seed]
+//   java -Dcatalog.recipes=target/catalog-1m/recipes.csv -Dcatalog.exercises=target/catalog-1m/exercises.csv ...
+// The same counts and seed always give the same files. Recipes are built from a protein, a base,
+// vegetables and extras drawn with Zipf-like skew, and their diet tags and allergens follow from
+// the ingredients, so popular restrictions match many recipes and rare ones few, as in real data.
+// Exercise equipment and intensity are skewed the same way. Rows are generated and written one at
+// a time, so memory does not grow with the count.
+public final class SyntheticCatalog {
+
+    static final long DEFAULT_SEED = 42L;
+    static final String RECIPES_FILE = "recipes.csv";
+    static final String EXERCISES_FILE = "exercises.csv";
+
+    private static final String[] MEAL_TYPES = {"breakfast", "lunch", "dinner"};
+    private static final double[] MEAL_TYPE_WEIGHTS = {0.30, 0.33, 0.37};
+    private static final double[] MEAL_CALORIES = {420, 560, 650};
+
+    // Proteins by kind (meat, fish, dairy and eggs, plant), most common first within each kind
+    private static final String[][] PROTEINS = {
+            {"chicken breast", "ground beef", "turkey", "pork loin", "bacon", "lamb", "duck"},
+            {"salmon", "tuna", "cod", "shrimp", "sardines", "mackerel", "crab"},
+            {"eggs", "greek yogurt", "cottage cheese", "cheese", "paneer", "ricotta"},
+            {"chickpeas", "black beans", "lentils", "tofu", "tempeh", "edamame", "seitan", "peanut butter"},
+    };
+    private static final int FISH = 1;
+    private static final int DAIRY_EGG = 2;
+    private static final int PLANT = 3;
+    private static final double[] PROTEIN_KIND_WEIGHTS = {0.40, 0.12, 0.18, 0.30};
+
+    private static final String[] BASES = {"brown rice", "quinoa", "oats", "whole wheat pasta", "sweet potatoes",
+            "white rice", "whole wheat bread", "potatoes", "barley", "couscous", "buckwheat", "corn tortillas",
+            "rice noodles", "millet"};
+    private static final String[] VEGETABLES = {"spinach", "broccoli", "tomatoes", "carrots", "bell peppers",
+            "onions", "kale", "zucchini", "mushrooms", "cucumber", "cauliflower", "green beans", "asparagus",
+            "cabbage", "peas", "beets", "eggplant", "brussels sprouts", "leeks", "bok choy", "artichokes", "okra"};
+    private static final String[] EXTRAS = {"olive oil", "avocado", "garlic", "lemon", "almonds", "butter",
+            "walnuts", "honey", "feta", "soy sauce", "chia seeds", "sesame seeds", "parmesan", "cashews",
+            "coconut milk", "pesto", "tahini", "maple syrup", "pine nuts", "mayonnaise"};
+    // Vegetable variants, which give larger catalogs a longer tail of ingredients
+    private static final String[] VARIANTS = {"", "roasted ", "smoked ", "fresh ", "dried ", "organic ",
+            "grilled ", "pickled ", "baby ", "wild "};
+
+    private static final String[] STYLES = {"Bowl", "Salad", "Stir-Fry", "Wrap", "Curry", "Skillet", "Soup",
+            "Bake", "Tacos", "Pasta", "Scramble", "Sandwich", "Stew", "Toast", "Casserole"};
+
+    private static final String[] CATEGORIES = {"upper_body", "lower_body", "core", "cardio"};
+    private static final String[][] MOVES = {
+            {"Push-ups", "Bench Press", "Rows", "Shoulder Press", "Pull-ups", "Curls", "Dips", "Flyes"},
+            {"Squats", "Lunges", "Deadlifts", "Step-ups", "Calf Raises", "Glute Bridges", "Wall Sit"},
+            {"Plank", "Crunches", "Russian Twists", "Leg Raises", "Dead Bug", "Mountain Climbers", "Sit-ups"},
+            {"Burpees", "Jumping Jacks", "High Knees", "Jump Rope", "Sprints", "Rowing", "Cycling", "Box Jumps"},
+    };
+    private static final String[] EQUIPMENT = {"None", "Dumbbells", "Kettlebell", "Resistance Bands", "Barbell",
+            "Pull-up Bar", "Rope", "Medicine Ball", "Bike", "Rower"};
+    private static final double[] EQUIPMENT_WEIGHTS = {0.30, 0.20, 0.12, 0.10, 0.09, 0.07, 0.05, 0.04, 0.02, 0.01};
+    private static final String[] VARIATIONS = {"", "Incline ", "Single-Leg ", "Tempo ", "Paused ", "Wide ",
+            "Narrow ", "Alternating ", "Weighted ", "Explosive "};
+
+    private SyntheticCatalog() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3 || args.length > 4) {
+            System.err.println("Usage: SyntheticCatalog <recipes> <exercises> <directory> [seed]");
+            System.exit(2);
+        }
+        int recipes = Integer.parseInt(args[0]);
+        int exercises = Integer.parseInt(args[1]);
+        Path directory = Paths.get(args[2]);
+        long seed = args.length == 4 ? Long.parseLong(args[3]) : DEFAULT_SEED;
+        long started = System.nanoTime();
+        write(directory, recipes, exercises, seed);
+        System.out.println("Wrote " + recipes + " recipes and " + exercises + " exercises to " + directory
+                + " in " + (System.nanoTime() - started) / 1_000_000 + " ms");
+    }
+
+    // Writes RECIPES_FILE and EXERCISES_FILE into directory. Each file is written under a temporary
+    // name and renamed into place, so a watching plan service never reads a half-written catalog.
+    static void write(Path directory, int recipes, int exercises, long seed) throws IOException {
+        Files.createDirectories(directory);
+        writeAtomically(directory.resolve(RECIPES_FILE), out -> writeRecipes(out, recipes, seed));
+        writeAtomically(directory.resolve(EXERCISES_FILE), out -> writeExercises(out, exercises, seed));
+    }
+
+    // The catalog in directory, written first unless an earlier call left it there.
+    static Catalog load(Path directory, int recipes, int exercises, long seed) throws IOException {
+        Path recipeFile = directory.resolve(RECIPES_FILE);
+        Path exerciseFile = directory.resolve(EXERCISES_FILE);
+        if (!Files.exists(recipeFile) || !Files.exists(exerciseFile)) {
+            write(directory, recipes, exercises, seed);
+        }
+        return Catalog.fromCsv(recipeFile, exerciseFile);
+    }
+
+    static void writeRecipes(Writer out, int count, long seed) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        Zipf vegetables = new Zipf(VEGETABLES.length * VARIANTS.length, 1.1);
+        Zipf extras = new Zipf(EXTRAS.length, 1.1);
+        Zipf bases = new Zipf(BASES.length, 1.0);
+        Zipf styles = new Zipf(STYLES.length, 0.8);
+        Zipf[] proteins = new Zipf[PROTEINS.length];
+        for (int k = 0; k < PROTEINS.length; k++) {
+            proteins[k] = new Zipf(PROTEINS[k].length, 1.0);
+        }
+        String[] ingredients = new String[8];
+        StringBuilder line = new StringBuilder(256);
+
+        out.write("name,mealType,dietaryTags,allergies,calories,carbs,protein,fats,ingredients\n");
+        for (int i = 0; i < count; i++) {
+            int meal = Weights.pick(MEAL_TYPE_WEIGHTS, random);
+            int kind = Weights.pick(PROTEIN_KIND_WEIGHTS, random);
+            String protein = PROTEINS[kind][proteins[kind].sample(random)];
+            String base = BASES[bases.sample(random)];
+            int n = 0;
+            ingredients[n++] = protein;
+            ingredients[n++] = base;
+            int vegetableCount = 1 + random.nextInt(3);
+            for (int v = 0; v < vegetableCount; v++) {
+                n = addDistinct(ingredients, n, variant(VEGETABLES, vegetables.sample(random)));
+            }
+            int extraCount = 1 + random.nextInt(3);
+            for (int e = 0; e < extraCount; e++) {
+                n = addDistinct(ingredients, n, EXTRAS[extras.sample(random)]);
+            }
+
+            // Restrictions follow from what is in the recipe
+            boolean dairy = kind == DAIRY_EGG && !protein.equals("eggs");
+            boolean eggs = protein.equals("eggs");
+            boolean nuts = protein.equals("peanut butter");
+            boolean gluten = protein.equals("seitan");
+            boolean soy = protein.equals("tofu") || protein.equals("tempeh") || protein.equals("edamame");
+            boolean shellfish = protein.equals("shrimp") || protein.equals("crab");
+            boolean animalExtra = false;
+            gluten |= base.contains("wheat") || base.equals("barley") || base.equals("couscous");
+            for (int j = 2; j < n; j++) {
+                switch (ingredients[j]) {
+                    case "butter", "feta", "parmesan" -> dairy = true;
+                    case "pesto" -> {
+                        dairy = true;
+                        nuts = true;
+                    }
+                    case "almonds", "walnuts", "cashews", "pine nuts" -> nuts = true;
+                    case "soy sauce" -> {
+                        soy = true;
+                        gluten = true;
+                    }
+                    case "mayonnaise" -> eggs = true;
+                    case "honey" -> animalExtra = true;
+                    default -> {
+                    }
+                }
+            }
+            boolean vegetarian = kind == PLANT || kind == DAIRY_EGG;
+            boolean vegan = kind == PLANT && !dairy && !eggs && !animalExtra;
+
+            double calories = Math.round(Math.min(1500, Math.max(120,
+                    MEAL_CALORIES[meal] * Math.exp(random.nextGaussian() * 0.3))));
+            double proteinShare = kind == PLANT ? 0.18 : 0.30;
+            proteinShare += random.nextDouble(-0.06, 0.06);
+            double fatShare = 0.25 + random.nextDouble(-0.08, 0.12);
+            double carbShare = 1 - proteinShare - fatShare;
+
+            line.setLength(0);
+            line.append(Character.toUpperCase(protein.charAt(0))).append(protein, 1, protein.length())
+                    .append(' ').append(STYLES[styles.sample(random)]).append(' ').append(i + 1);
+            line.append(',').append(MEAL_TYPES[meal]).append(',');
+            int tags = 0;
+            tags = appendTag(line, tags, vegan, "vegan");
+            tags = appendTag(line, tags, vegetarian, "vegetarian");
+            tags = appendTag(line, tags, kind == FISH || vegetarian, "pescatarian");
+            tags = appendTag(line, tags, !gluten, "gluten_free");
+            appendTag(line, tags, tags == 0, "none");
+            line.append(',');
+            int allergens = 0;
+            allergens = appendTag(line, allergens, dairy, "dairy");
+            allergens = appendTag(line, allergens, eggs, "eggs");
+            allergens = appendTag(line, allergens, nuts, "nuts");
+            allergens = appendTag(line, allergens, gluten, "gluten");
+            allergens = appendTag(line, allergens, soy, "soy");
+            appendTag(line, allergens, shellfish, "shellfish");
+            line.append(',').append((long) calories)
+                    .append(',').append(grams(calories * carbShare / 4))
+                    .append(',').append(grams(calories * proteinShare / 4))
+                    .append(',').append(grams(calories * fatShare / 9))
+                    .append(',');
+            for (int j = 0; j < n; j++) {
+                if (j > 0) {
+                    line.append(';');
+                }
+                line.append(ingredients[j]);
+            }
+            line.append('\n');
+            out.append(line);
+        }
+    }
+
+    static void writeExercises(Writer out, int count, long seed) throws IOException {
+        // Independent of the recipe stream, so the exercise file does not depend on the recipe count
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + 1);
+        Zipf variations = new Zipf(VARIATIONS.length, 1.2);
+        StringBuilder line = new StringBuilder(96);
+
+        out.write("name,equipment,intensity,category\n");
+        for (int i = 0; i < count; i++) {
+            int category = random.nextInt(CATEGORIES.length);
+            String[] moves = MOVES[category];
+            line.setLength(0);
+            line.append(VARIATIONS[variations.sample(random)]).append(moves[random.nextInt(moves.length)])
+                    .append(' ').append(i + 1)
+                    .append(',').append(EQUIPMENT[Weights.pick(EQUIPMENT_WEIGHTS, random)])
+                    .append(',').append(Weights.INTENSITIES[Weights.pick(Weights.INTENSITY_WEIGHTS, random)])
+                    .append(',').append(CATEGORIES[category])
+                    .append('\n');
+            out.append(line);
+        }
+    }
+
+    private static void writeAtomically(Path target, Body body) throws IOException {
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            body.write(out);
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private interface Body {
+        void write(Writer out) throws IOException;
+    }
+
+    // Variant v of name n: index = n + v * names.length, so low indexes are the plain names.
+    private static String variant(String[] names, int index) {
+        return VARIANTS[index / names.length] + names[index % names.length];
+    }
+
+    private static int addDistinct(String[] ingredients, int n, String ingredient) {
+        for (int i = 0; i < n; i++) {
+            if (ingredients[i].equals(ingredient)) {
+                return n;
+            }
+        }
+        ingredients[n] = ingredient;
+        return n + 1;
+    }
+
+    private static int appendTag(StringBuilder line, int written, boolean condition, String tag) {
+        if (!condition) {
+            return written;
+        }
+        if (written > 0) {
+            line.append(';');
+        }
+        line.append(tag);
+        return written + 1;
+    }
+
+    private static double grams(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+
+    // Rank 0 is the most likely; P(rank k) is proportional to 1 / (k + 1)^exponent.
+    private static final class Zipf {
+        private final double[] cumulative;
+
+        Zipf(int size, double exponent) {
+            cumulative = new double[size];
+            double sum = 0;
+            for (int k = 0; k < size; k++) {
+                sum += 1 / Math.pow(k + 1, exponent);
+                cumulative[k] = sum;
+            }
+            for (int k = 0; k < size; k++) {
+                cumulative[k] /= sum;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            double r = random.nextDouble();
+            int low = 0;
+            int high = cumulative.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cumulative[mid] < r) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.hackaton.seven;
+
+import java.util.*;
+
+// Interns a small tag vocabulary (dietary tags, allergens) into bit positions of a long.
+final class TagVocabulary {
+
+    static final int MAX_TAGS = Long.SIZE;
+
+    private final Map<String, Integer> ids = new HashMap<>();
+
+    int intern(String tag) {
+        Integer id = ids.get(tag);
+        if (id != null) {
+            return id;
+        }
+        if (ids.size() == MAX_TAGS) {
+            throw new IllegalStateException("More than " + MAX_TAGS + " distinct tags, cannot intern '" + tag + "'");
+        }
+        int next = ids.size();
+        ids.put(tag, next);
+        return next;
+    }
+
+    // Bit position of the tag, or -1 if no recipe ever used it.
+    int idOf(String tag) {
+        Integer id = ids.get(tag);
+        return id == null ? -1 : id;
+    }
+
+    long internAll(Collection<String> tags) {
+        long mask = 0L;
+        for (String tag : tags) {
+            mask |= 1L << intern(tag);
+        }
+        return mask;
+    }
+
+    int size() {
+        return ids.size();
+    }
+}
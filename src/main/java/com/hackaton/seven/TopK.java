@@ -0,0 +1,69 @@
+package com.hackaton.seven;
+
+// Bounded max-heap of the k lowest-cost positions seen so far. The root is the worst kept entry.
+final class TopK {
+
+    private final int[] positions;
+    private final double[] costs;
+    private int size;
+
+    TopK(int k) {
+        this.positions = new int[k];
+        this.costs = new double[k];
+    }
+
+    boolean isFull() {
+        return size == positions.length;
+    }
+
+    double worst() {
+        return costs[0];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int position(int i) {
+        return positions[i];
+    }
+
+    void offer(int position, double cost) {
+        if (positions.length == 0) {
+            return;
+        }
+        if (size < positions.length) {
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (costs[parent] >= cost) {
+                    break;
+                }
+                positions[i] = positions[parent];
+                costs[i] = costs[parent];
+                i = parent;
+            }
+            positions[i] = position;
+            costs[i] = cost;
+        } else if (cost < costs[0]) {
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && costs[child + 1] > costs[child]) {
+                    child++;
+                }
+                if (costs[child] <= cost) {
+                    break;
+                }
+                positions[i] = positions[child];
+                costs[i] = costs[child];
+                i = child;
+            }
+            positions[i] = position;
+            costs[i] = cost;
+        }
+    }
+}
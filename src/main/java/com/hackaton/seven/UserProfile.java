@@ -0,0 +1,44 @@
+package com.hackaton.seven;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+// The inputs of one weekly plan request.
+public class UserProfile {
+    final double dailyCalories;
+    final Set<String> diet;
+    final Set<String> allergies;
+    // Ingredients every meal must contain / must not contain
+    final Set<String> includeIngredients;
+    final Set<String> excludeIngredients;
+    final String equipment;
+    final String intensity;
+    // Optional: when set, the plan for this profile is reproducible
+    final Long seed;
+
+    public UserProfile(double dailyCalories, Set<String> diet, Set<String> allergies, String equipment, String intensity) {
+        this(dailyCalories, diet, allergies, equipment, intensity, null);
+    }
+
+    public UserProfile(double dailyCalories, Set<String> diet, Set<String> allergies, String equipment, String intensity, Long seed) {
+        this(dailyCalories, diet, allergies, Collections.emptySet(), Collections.emptySet(), equipment, intensity, seed);
+    }
+
+    public UserProfile(double dailyCalories, Set<String> diet, Set<String> allergies, Set<String> includeIngredients,
+                       Set<String> excludeIngredients, String equipment, String intensity, Long seed) {
+        this.dailyCalories = dailyCalories;
+        this.diet = diet;
+        this.allergies = allergies;
+        this.includeIngredients = includeIngredients;
+        this.excludeIngredients = excludeIngredients;
+        this.equipment = equipment;
+        this.intensity = intensity;
+        this.seed = seed;
+    }
+
+    RandomGenerator random() {
+        return seed == null ? new SplittableRandom() : new SplittableRandom(seed);
+    }
+}
@@ -0,0 +1,159 @@
+package com.hackaton.seven;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+// Per-request record of the recipes and exercises already served, over dense catalog ids. With a
+// finite window of N days, an item becomes available again N days after it was used: the ids of
+// each day are kept in a ring and cleared from the bitsets when that day leaves the window.
+// An item served again while still in the window (when a small pool forces a repeat) keeps its
+// bit until its latest use leaves the window, not its first.
+// A sparse tracker (for single-slot re-rolls) keeps a handful of ids in small arrays instead, so
+// creating one does not depend on the catalog size.
+final class VarietyTracker {
+
+    static final int WHOLE_PLAN = Integer.MAX_VALUE;
+    static final int SLOTS_PER_DAY = 7;
+
+    private final BitSet recipes;
+    private final BitSet exercises;
+    // Sparse mode only: used ids, unsorted
+    private int[] fewRecipes;
+    private int[] fewExercises;
+    private int recipeCount;
+    private int exerciseCount;
+    private final int windowDays;
+    // ring[day % windowDays][slot]: id + 1 (0 = empty), negative for exercises
+    private final int[][] ring;
+    // Ring entry -> day of its latest use, for entries used more than once within the window only
+    private final Map<Integer, Integer> repeatedUntil = new HashMap<>();
+    private int day = -1;
+    private int slot;
+
+    VarietyTracker(int recipeCount, int exerciseCount, int windowDays) {
+        this.recipes = new BitSet(recipeCount);
+        this.exercises = new BitSet(exerciseCount);
+        this.windowDays = windowDays;
+        this.ring = windowDays == WHOLE_PLAN ? null : new int[windowDays][SLOTS_PER_DAY];
+    }
+
+    private VarietyTracker() {
+        this.recipes = null;
+        this.exercises = null;
+        this.windowDays = WHOLE_PLAN;
+        this.ring = null;
+        this.fewRecipes = new int[8];
+        this.fewExercises = new int[8];
+    }
+
+    // Tracker without a window for a small, explicit set of items.
+    static VarietyTracker sparse() {
+        return new VarietyTracker();
+    }
+
+    void startDay() {
+        day++;
+        slot = 0;
+        if (ring != null) {
+            int[] expired = ring[day % windowDays];
+            int expiredDay = day - windowDays;
+            for (int i = 0; i < expired.length; i++) {
+                if (expired[i] != 0 && stillInWindow(expired[i], expiredDay)) {
+                    continue;
+                }
+                if (expired[i] > 0) {
+                    recipes.clear(expired[i] - 1);
+                } else if (expired[i] < 0) {
+                    exercises.clear(-expired[i] - 1);
+                }
+            }
+            Arrays.fill(expired, 0);
+        }
+    }
+
+    boolean isUsed(Recipe r) {
+        if (r.id < 0) {
+            return false;
+        }
+        return recipes != null ? recipes.get(r.id) : contains(fewRecipes, recipeCount, r.id);
+    }
+
+    boolean isUsed(Exercise e) {
+        if (e.id < 0) {
+            return false;
+        }
+        return exercises != null ? exercises.get(e.id) : contains(fewExercises, exerciseCount, e.id);
+    }
+
+    void use(Recipe r) {
+        if (r.id < 0) {
+            return;
+        }
+        if (recipes == null) {
+            if (recipeCount == fewRecipes.length) {
+                fewRecipes = Arrays.copyOf(fewRecipes, recipeCount * 2);
+            }
+            fewRecipes[recipeCount++] = r.id;
+            return;
+        }
+        if (recipes.get(r.id)) {
+            repeated(r.id + 1);
+        }
+        recipes.set(r.id);
+        record(r.id + 1);
+    }
+
+    void use(Exercise e) {
+        if (e.id < 0) {
+            return;
+        }
+        if (exercises == null) {
+            if (exerciseCount == fewExercises.length) {
+                fewExercises = Arrays.copyOf(fewExercises, exerciseCount * 2);
+            }
+            fewExercises[exerciseCount++] = e.id;
+            return;
+        }
+        if (exercises.get(e.id)) {
+            repeated(-(e.id + 1));
+        }
+        exercises.set(e.id);
+        record(-(e.id + 1));
+    }
+
+    private static boolean contains(int[] ids, int count, int id) {
+        for (int i = 0; i < count; i++) {
+            if (ids[i] == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void repeated(int entry) {
+        if (ring != null) {
+            repeatedUntil.put(entry, day);
+        }
+    }
+
+    // True when entry, expiring from expiredDay, was used again on a later day of the window.
+    private boolean stillInWindow(int entry, int expiredDay) {
+        Integer latest = repeatedUntil.get(entry);
+        if (latest == null) {
+            return false;
+        }
+        if (latest > expiredDay) {
+            return true;
+        }
+        repeatedUntil.remove(entry);
+        return false;
+    }
+
+    private void record(int entry) {
+        if (ring != null && slot < SLOTS_PER_DAY) {
+            ring[day % windowDays][slot++] = entry;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.hackaton.seven;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// SIMD version of ScalarRecipeScan. Only reference it through RecipeScan.best().
+final class VectorRecipeScan implements RecipeScan {
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public int filter(long[] dietMasks, long[] allergyMasks, int from, int to, long requiredDiet, long excludedAllergies, int[] out) {
+        int count = 0;
+        int i = from;
+        int upper = from + LONGS.loopBound(to - from);
+        for (; i < upper; i += LONGS.length()) {
+            LongVector diet = LongVector.fromArray(LONGS, dietMasks, i);
+            LongVector allergy = LongVector.fromArray(LONGS, allergyMasks, i);
+            VectorMask<Long> matches = diet.and(requiredDiet).compare(VectorOperators.EQ, requiredDiet)
+                    .and(allergy.and(excludedAllergies).compare(VectorOperators.EQ, 0L));
+            long bits = matches.toLong();
+            while (bits != 0) {
+                out[count++] = i + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        for (; i < to; i++) {
+            if ((dietMasks[i] & requiredDiet) == requiredDiet && (allergyMasks[i] & excludedAllergies) == 0) {
+                out[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void calorieDistances(double[] calories, int from, int to, double target, double[] out) {
+        int i = from;
+        int upper = from + DOUBLES.loopBound(to - from);
+        for (; i < upper; i += DOUBLES.length()) {
+            DoubleVector.fromArray(DOUBLES, calories, i).sub(target).abs().intoArray(out, i - from);
+        }
+        for (; i < to; i++) {
+            out[i - from] = Math.abs(calories[i] - target);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.hackaton.seven;
+
+import java.util.SplittableRandom;
+
+// Weighted random choice for the synthetic workloads (SyntheticCatalog, LoadGenerator), and the
+// intensity mix they share so generated catalogs and generated traffic ask for the same levels.
+final class Weights {
+
+    static final String[] INTENSITIES = {"Low", "Medium", "High"};
+    static final double[] INTENSITY_WEIGHTS = {0.30, 0.45, 0.25};
+
+    private Weights() {
+    }
+
+    // An index into weights, drawn with probability proportional to its weight. The weights are
+    // expected to sum to 1; the last index takes up any rounding.
+    static int pick(double[] weights, SplittableRandom random) {
+        double r = random.nextDouble();
+        for (int i = 0; i < weights.length - 1; i++) {
+            r -= weights[i];
+            if (r < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+}
@@ -0,0 +1,95 @@
+package com.hackaton.seven;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BatchPlannerTest {
+
+    private static Recommender recommender;
+
+    @BeforeAll
+    static void loadCatalog() throws IOException {
+        recommender = new Recommender(TestCatalogs.catalog(5_000, 2_000, SyntheticCatalog.DEFAULT_SEED));
+    }
+
+    @Test
+    void chunkedPlansEqualSinglePlans() {
+        // Past one chunk, so the second chunk starts mid-cohort
+        List<UserProfile> profiles = new ArrayList<>();
+        for (int i = 0; i < BatchPlanner.CHUNK_SIZE + 300; i++) {
+            profiles.add(profile(i));
+        }
+        List<CompactPlan> batch = new ArrayList<>();
+        CatalogSnapshot catalog = recommender.snapshot();
+        new BatchPlanner(recommender, ForkJoinPool.commonPool()).generate(profiles.iterator(),
+                (profile, plan) -> batch.add(CompactPlan.of(catalog, profile.seed, plan)));
+
+        assertEquals(profiles.size(), batch.size());
+        for (int i = 0; i < profiles.size(); i++) {
+            CompactPlan single = recommender.generateCompactPlan(catalog, profiles.get(i), 7, PlanOptions.defaults());
+            assertSamePlan(single, batch.get(i), "profile " + i);
+        }
+    }
+
+    @Test
+    void compactPlansHonourOptions() {
+        PlanOptions wholeDay = PlanOptions.wholeDay(80);
+        wholeDay.noRepeatDays = 3;
+        PlanOptions ranked = PlanOptions.defaults();
+        ranked.ranking.topK = 8;
+        ranked.ranking.balanceWeight = 40;
+        ranked.noRepeatDays = 7;
+
+        for (PlanOptions options : List.of(PlanOptions.defaults(), wholeDay, ranked)) {
+            BatchPlanner planner = new BatchPlanner(recommender, ForkJoinPool.commonPool(), options);
+            planner.startChunk();
+            for (int i = 0; i < 40; i++) {
+                UserProfile profile = profile(i);
+                CompactPlan single = recommender.generateCompactPlan(planner.catalog(), profile, 7, options);
+                CompactPlan batch = planner.planCompact(profile, profile.seed);
+                assertSamePlan(single, batch, "profile " + i);
+                assertEquals(profile.seed, batch.seed);
+
+                Map<String, DailyPlan> week = planner.plan(profile, profile.random());
+                assertSamePlan(single, CompactPlan.of(planner.catalog(), profile.seed, week), "profile " + i);
+            }
+        }
+    }
+
+    // Calorie targets off the 25 kcal grid, a spread of restrictions and exercise preferences, and
+    // one seed per profile.
+    private static UserProfile profile(int i) {
+        double calories = 1500 + (i * 37) % 1400;
+        Set<String> diet = switch (i % 5) {
+            case 0 -> Set.of("vegan");
+            case 1 -> Set.of("gluten_free");
+            case 2 -> Set.of("vegetarian", "gluten_free");
+            default -> Set.of();
+        };
+        Set<String> allergies = i % 3 == 0 ? Set.of("nuts") : Set.of();
+        Set<String> include = i % 7 == 0 ? Set.of("garlic") : Set.of();
+        Set<String> exclude = i % 11 == 0 ? Set.of("spinach") : Set.of();
+        String equipment = i % 2 == 0 ? "None" : "Dumbbells";
+        String intensity = Weights.INTENSITIES[i % Weights.INTENSITIES.length];
+        return new UserProfile(calories, diet, allergies, include, exclude, equipment, intensity, 1000L + i * 7919L);
+    }
+
+    private static void assertSamePlan(CompactPlan expected, CompactPlan actual, String message) {
+        assertEquals(expected.catalogFingerprint, actual.catalogFingerprint, message);
+        assertEquals(expected.days(), actual.days(), message);
+        for (int day = 0; day < expected.days(); day++) {
+            for (PlanSlot slot : PlanSlot.values()) {
+                assertEquals(expected.id(day, slot), actual.id(day, slot), message + " day " + (day + 1) + " " + slot);
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.hackaton.seven;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CandidatePoolCacheTest {
+
+    @Test
+    void evictsTheLeastRecentlyUsedPoolOfAFullSegment() {
+        // Three entries per segment
+        CandidatePoolCache cache = new CandidatePoolCache(3 * CandidatePoolCache.SEGMENTS);
+        RecipeIndex index = new RecipeIndex(List.of());
+        List<CandidatePoolCache.Key> keys = keysInOneSegment(4);
+        int[] loads = new int[1];
+
+        CandidatePool a = get(cache, keys.get(0), index, loads);
+        CandidatePool b = get(cache, keys.get(1), index, loads);
+        get(cache, keys.get(2), index, loads);
+        assertEquals(3, cache.size());
+        // Touching a makes b the eldest, so the fourth key evicts b
+        assertSame(a, get(cache, keys.get(0), index, loads));
+        get(cache, keys.get(3), index, loads);
+        assertEquals(3, cache.size());
+        assertEquals(4, loads[0]);
+
+        assertSame(a, get(cache, keys.get(0), index, loads));
+        assertNotSame(b, get(cache, keys.get(1), index, loads));
+        assertEquals(5, loads[0]);
+        assertEquals(2, cache.hits());
+        assertEquals(5, cache.misses());
+    }
+
+    @Test
+    void otherSegmentsKeepTheirPools() {
+        CandidatePoolCache cache = new CandidatePoolCache(CandidatePoolCache.SEGMENTS);
+        RecipeIndex index = new RecipeIndex(List.of());
+        int[] loads = new int[1];
+        // One key per segment fills the cache without evicting anything
+        List<CandidatePoolCache.Key> keys = new ArrayList<>();
+        boolean[] covered = new boolean[CandidatePoolCache.SEGMENTS];
+        for (long diet = 1; keys.size() < CandidatePoolCache.SEGMENTS; diet++) {
+            CandidatePoolCache.Key key = key(diet);
+            if (!covered[CandidatePoolCache.segment(key)]) {
+                covered[CandidatePoolCache.segment(key)] = true;
+                keys.add(key);
+            }
+        }
+        List<CandidatePool> pools = new ArrayList<>();
+        for (CandidatePoolCache.Key key : keys) {
+            pools.add(get(cache, key, index, loads));
+        }
+        assertEquals(CandidatePoolCache.SEGMENTS, cache.size());
+        for (int i = 0; i < keys.size(); i++) {
+            assertSame(pools.get(i), get(cache, keys.get(i), index, loads));
+        }
+        assertEquals(CandidatePoolCache.SEGMENTS, loads[0]);
+    }
+
+    @Test
+    void poolsOfAnotherIndexAreReloaded() {
+        CandidatePoolCache cache = new CandidatePoolCache(CandidatePoolCache.DEFAULT_CAPACITY);
+        RecipeIndex before = new RecipeIndex(List.of());
+        RecipeIndex after = new RecipeIndex(List.of());
+        int[] loads = new int[1];
+        CandidatePoolCache.Key key = key(1);
+
+        CandidatePool old = get(cache, key, before, loads);
+        CandidatePool fresh = get(cache, key, after, loads);
+        assertNotSame(old, fresh);
+        assertSame(after, fresh.source);
+        assertSame(fresh, get(cache, key, after, loads));
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.hits());
+        assertEquals(2, cache.misses());
+    }
+
+    @Test
+    void reloadClearsCachedPools() throws IOException {
+        Recommender recommender = new Recommender(TestCatalogs.catalog(2_000, 200, 1));
+        CandidatePoolCache cache = recommender.poolCache();
+        RestrictionMask vegan = recommender.snapshot().compile(Set.of("vegan"), Set.of());
+        CandidatePool first = recommender.candidatePool("lunch", vegan);
+        assertSame(first, recommender.candidatePool("lunch", vegan));
+        recommender.candidatePool("dinner", vegan);
+        assertEquals(2, cache.size());
+        long misses = cache.misses();
+
+        recommender.reload(TestCatalogs.catalog(2_000, 200, 2));
+        assertEquals(0, cache.size());
+        RestrictionMask recompiled = recommender.snapshot().compile(Set.of("vegan"), Set.of());
+        CandidatePool reloaded = recommender.candidatePool("lunch", recompiled);
+        assertNotSame(first, reloaded);
+        assertSame(recommender.snapshot().recipes, reloaded.source);
+        assertEquals(misses + 1, cache.misses());
+    }
+
+    private static CandidatePool get(CandidatePoolCache cache, CandidatePoolCache.Key key, RecipeIndex index,
+                                     int[] loads) {
+        return cache.get(key, index, k -> {
+            loads[0]++;
+            return new CandidatePool(index, new Recipe[0]);
+        });
+    }
+
+    private static List<CandidatePoolCache.Key> keysInOneSegment(int count) {
+        List<CandidatePoolCache.Key> keys = new ArrayList<>();
+        int segment = CandidatePoolCache.segment(key(1));
+        for (long diet = 1; keys.size() < count; diet++) {
+            CandidatePoolCache.Key key = key(diet);
+            if (CandidatePoolCache.segment(key) == segment) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    private static CandidatePoolCache.Key key(long diet) {
+        return new CandidatePoolCache.Key("lunch", new RestrictionMask(diet, 0L, true));
+    }
+}
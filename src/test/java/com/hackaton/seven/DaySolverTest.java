@@ -0,0 +1,234 @@
+package com.hackaton.seven;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DaySolverTest {
+
+    @Test
+    void hitsAnExactTarget() {
+        // Only the 400 kcal breakfast leaves a remainder some lunch/dinner pair can reach, and only
+        // one pair reaches it exactly
+        CandidatePool breakfasts = pool("breakfast", 0, 310, 400, 520);
+        CandidatePool lunches = pool("lunch", 10, 600, 615, 630);
+        CandidatePool dinners = pool("dinner", 20, 770, 777, 790);
+        double target = 400 + 615 + 777;
+        assertEquals(1, inBand(breakfasts, lunches, dinners, target, 0).size(), "only one exact triple");
+
+        for (long seed = 0; seed < 50; seed++) {
+            Recipe[] out = solve(breakfasts, lunches, dinners, target, 0, seed, null);
+            assertArrayEquals(new double[]{400, 615, 777}, calories(out), "seed " + seed);
+        }
+    }
+
+    @Test
+    void drawsEveryTripleInsideTheBand() {
+        SplittableRandom random = new SplittableRandom(11);
+        CandidatePool breakfasts = randomPool("breakfast", 0, 12, 250, 700, random);
+        CandidatePool lunches = randomPool("lunch", 100, 12, 350, 900, random);
+        CandidatePool dinners = randomPool("dinner", 200, 12, 400, 1100, random);
+        double target = 2000;
+        double tolerance = 15;
+        Set<List<Recipe>> expected = inBand(breakfasts, lunches, dinners, target, tolerance);
+        assertTrue(expected.size() > 20, "the band should hold a spread of triples");
+
+        Set<List<Recipe>> drawn = new HashSet<>();
+        for (long seed = 0; seed < 20_000; seed++) {
+            List<Recipe> triple = List.of(solve(breakfasts, lunches, dinners, target, tolerance, seed, null));
+            assertTrue(expected.contains(triple), "seed " + seed + " left the band");
+            drawn.add(triple);
+        }
+        assertEquals(expected, drawn);
+    }
+
+    @Test
+    void countPairsMatchesBruteForce() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int round = 0; round < 200; round++) {
+            double[] l = randomPool("lunch", 0, 1 + random.nextInt(30), 300, 900, random).calories;
+            double[] d = randomPool("dinner", 0, 1 + random.nextInt(30), 300, 900, random).calories;
+            double lo = random.nextDouble(500, 1900);
+            double hi = lo + random.nextDouble(0, 300);
+            long expected = 0;
+            for (double lunch : l) {
+                for (double dinner : d) {
+                    if (lunch + dinner >= lo && lunch + dinner <= hi) {
+                        expected++;
+                    }
+                }
+            }
+            assertEquals(expected, DaySolver.countPairs(l, d, lo, hi), "round " + round);
+        }
+    }
+
+    @Test
+    void widensTheBandBeforeRepeating() {
+        CandidatePool breakfasts = pool("breakfast", 0, 500);
+        CandidatePool lunches = pool("lunch", 1, 600, 650);
+        CandidatePool dinners = pool("dinner", 3, 700);
+        // The only in-band triple uses a served lunch; the other lunch is 50 kcal out, inside the
+        // band doubled three times (10 -> 80)
+        VarietyTracker variety = tracker();
+        variety.use(lunches.recipes[0]);
+
+        for (long seed = 0; seed < 50; seed++) {
+            Recipe[] out = solve(breakfasts, lunches, dinners, 1800, 10, seed, variety);
+            assertArrayEquals(new double[]{500, 650, 700}, calories(out), "seed " + seed);
+        }
+    }
+
+    @Test
+    void skipsServedBreakfasts() {
+        CandidatePool breakfasts = pool("breakfast", 0, 400, 410);
+        CandidatePool lunches = pool("lunch", 2, 600, 610);
+        CandidatePool dinners = pool("dinner", 4, 800, 810);
+        VarietyTracker variety = tracker();
+        variety.use(breakfasts.recipes[0]);
+
+        for (long seed = 0; seed < 200; seed++) {
+            Recipe[] out = solve(breakfasts, lunches, dinners, 1815, 20, seed, variety);
+            assertEquals(410, out[0].calories, "seed " + seed);
+            assertTrue(Math.abs(sum(out) - 1815) <= 20);
+        }
+    }
+
+    @Test
+    void widenedRoundsAvoidRepeatsInsideTheWidestBand() {
+        CandidatePool breakfasts = pool("breakfast", 0, 500);
+        CandidatePool lunches = pool("lunch", 1, 600, 630, 680, 760);
+        CandidatePool dinners = pool("dinner", 5, 700);
+        VarietyTracker variety = tracker();
+        variety.use(lunches.recipes[0]);
+
+        // 630 is 30 kcal out (band 40), 680 is 80 out (band 80); 760 is past the widest band
+        Set<Double> seen = new HashSet<>();
+        for (long seed = 0; seed < 200; seed++) {
+            Recipe[] out = solve(breakfasts, lunches, dinners, 1800, 10, seed, variety);
+            assertTrue(out[1].calories == 630 || out[1].calories == 680, "seed " + seed + ": " + out[1].calories);
+            seen.add(out[1].calories);
+        }
+        assertTrue(seen.contains(630.0));
+    }
+
+    @Test
+    void repeatsInsideTheBandOnlyWhenNoWideningHelps() {
+        CandidatePool breakfasts = pool("breakfast", 0, 500);
+        CandidatePool lunches = pool("lunch", 1, 600, 700);
+        CandidatePool dinners = pool("dinner", 3, 700);
+        VarietyTracker variety = tracker();
+        variety.use(lunches.recipes[0]);
+
+        // The unused lunch is 100 kcal out, past the band doubled three times (10 -> 80): the
+        // in-band repeat wins over both the unused lunch and the closest-triple fallback
+        for (long seed = 0; seed < 50; seed++) {
+            Recipe[] out = solve(breakfasts, lunches, dinners, 1800, 10, seed, variety);
+            assertArrayEquals(new double[]{500, 600, 700}, calories(out), "seed " + seed);
+        }
+        // The solver only reads the tracker; the caller records the day's picks
+        assertFalse(variety.isUsed(lunches.recipes[1]));
+        assertFalse(variety.isUsed(breakfasts.recipes[0]));
+    }
+
+    @Test
+    void closestTripleIgnoresTheTracker() {
+        CandidatePool breakfasts = pool("breakfast", 0, 100);
+        CandidatePool lunches = pool("lunch", 1, 100, 150);
+        CandidatePool dinners = pool("dinner", 3, 100);
+        VarietyTracker variety = tracker();
+        variety.use(breakfasts.recipes[0]);
+        variety.use(lunches.recipes[1]);
+
+        Recipe[] out = solve(breakfasts, lunches, dinners, 2000, 10, 1, variety);
+        assertArrayEquals(new double[]{100, 150, 100}, calories(out));
+    }
+
+    @Test
+    void fallsBackToTheClosestTriple() {
+        CandidatePool breakfasts = pool("breakfast", 0, 100, 200, 300);
+        CandidatePool lunches = pool("lunch", 10, 100, 200);
+        CandidatePool dinners = pool("dinner", 20, 100, 200);
+
+        // Above every triple: the breakfast nearest a third of the target is the last one
+        assertArrayEquals(new double[]{300, 200, 200}, calories(solve(breakfasts, lunches, dinners, 2000, 10, 1, null)));
+        // Below every triple
+        assertArrayEquals(new double[]{100, 100, 100}, calories(solve(breakfasts, lunches, dinners, 100, 10, 1, null)));
+        // Between sums: the first breakfast at or above 650 / 3, then a pair 50 away from the remaining 350
+        Recipe[] out = solve(breakfasts, lunches, dinners, 650, 10, 1, null);
+        assertEquals(300, out[0].calories);
+        assertEquals(50, Math.abs(sum(out) - 650));
+    }
+
+    @Test
+    void failsOnAnEmptyPool() {
+        Recipe[] out = new Recipe[3];
+        assertFalse(DaySolver.solve(pool("breakfast", 0, 400), CandidatePool.EMPTY, pool("dinner", 1, 700),
+                1500, 50, new SplittableRandom(1), out));
+    }
+
+    static Recipe[] solve(CandidatePool breakfasts, CandidatePool lunches, CandidatePool dinners, double target,
+                          double tolerance, long seed, VarietyTracker variety) {
+        Recipe[] out = new Recipe[3];
+        assertTrue(DaySolver.solve(breakfasts, lunches, dinners, target, tolerance, new SplittableRandom(seed),
+                variety, out));
+        return out;
+    }
+
+    // Every triple whose calories are within tolerance of target.
+    static Set<List<Recipe>> inBand(CandidatePool breakfasts, CandidatePool lunches, CandidatePool dinners,
+                                    double target, double tolerance) {
+        Set<List<Recipe>> triples = new HashSet<>();
+        for (Recipe b : breakfasts.recipes) {
+            for (Recipe l : lunches.recipes) {
+                for (Recipe d : dinners.recipes) {
+                    if (Math.abs(b.calories + l.calories + d.calories - target) <= tolerance) {
+                        triples.add(List.of(b, l, d));
+                    }
+                }
+            }
+        }
+        return triples;
+    }
+
+    static VarietyTracker tracker() {
+        return new VarietyTracker(1000, 0, VarietyTracker.WHOLE_PLAN);
+    }
+
+    // Recipes with ids firstId, firstId + 1, ... and the given calories, which must be ascending.
+    static CandidatePool pool(String mealType, int firstId, double... calories) {
+        Recipe[] recipes = new Recipe[calories.length];
+        for (int i = 0; i < calories.length; i++) {
+            recipes[i] = new Recipe(mealType + " " + (firstId + i), mealType, List.of(), List.of(), calories[i],
+                    0, 0, 0, List.of());
+            recipes[i].id = firstId + i;
+        }
+        return new CandidatePool(null, recipes);
+    }
+
+    // Whole calories so some sums tie, sorted as a pool expects.
+    static CandidatePool randomPool(String mealType, int firstId, int size, int min, int max,
+                                    SplittableRandom random) {
+        List<Double> calories = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            calories.add((double) random.nextInt(min, max));
+        }
+        return pool(mealType, firstId, calories.stream().sorted().mapToDouble(Double::doubleValue).toArray());
+    }
+
+    static double[] calories(Recipe[] triple) {
+        return new double[]{triple[0].calories, triple[1].calories, triple[2].calories};
+    }
+
+    private static double sum(Recipe[] triple) {
+        return triple[0].calories + triple[1].calories + triple[2].calories;
+    }
+}
@@ -0,0 +1,58 @@
+package com.hackaton.seven;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExerciseIndexTest {
+
+    private final Exercise pushUp = new Exercise("Push-up", "None", "Low", "upper_body");
+    private final Exercise rows = new Exercise("Rows", "Dumbbells", "Medium", "upper_body");
+    private final Exercise curls = new Exercise("Curls", "dumbbells ", "medium", "upper_body");
+    private final ExerciseIndex index = new ExerciseIndex(List.of(pushUp, rows, curls));
+
+    @Test
+    void bucketsMatchIgnoringCaseAndWhitespace() {
+        assertArrayEquals(new Exercise[]{rows, curls}, index.bucket("upper_body", "Dumbbells", "Medium"));
+        assertArrayEquals(new Exercise[]{rows, curls}, index.bucket(" UPPER_BODY", "dumbbells", "MEDIUM "));
+        assertArrayEquals(new Exercise[]{pushUp}, index.bucket("upper_body", "none", "low"));
+        assertEquals(0, index.bucket("upper_body", "None", "High").length);
+        assertEquals(0, index.bucket("core", "None", "Low").length);
+        assertEquals(2, curls.id);
+    }
+
+    @Test
+    void fallbacksAreSharedPerRequest() {
+        Exercise placeholder = index.fallback("core", "Kettlebell", "High");
+        assertEquals("No suitable core exercise", placeholder.name);
+        assertEquals(-1, placeholder.id);
+        assertSame(placeholder, index.fallback("core", "Kettlebell", "High"));
+        assertEquals("kettlebell", index.fallback("core", "kettlebell", "High").equipment);
+    }
+
+    @Test
+    void fallbackCacheStaysBounded() {
+        Set<Exercise> distinct = new HashSet<>();
+        for (int i = 0; i < 10 * ExerciseIndex.FALLBACK_SLOTS; i++) {
+            Exercise placeholder = index.fallback("cardio", "equipment " + i, "High");
+            assertEquals("equipment " + i, placeholder.equipment);
+            distinct.add(placeholder);
+        }
+        assertEquals(10 * ExerciseIndex.FALLBACK_SLOTS, distinct.size());
+        // Requests that left the cache get a new placeholder with the same content
+        int cached = 0;
+        for (int i = 0; i < 10 * ExerciseIndex.FALLBACK_SLOTS; i++) {
+            if (distinct.contains(index.fallback("cardio", "equipment " + i, "High"))) {
+                cached++;
+            }
+        }
+        assertTrue(cached <= ExerciseIndex.FALLBACK_SLOTS, cached + " placeholders still cached");
+    }
+}
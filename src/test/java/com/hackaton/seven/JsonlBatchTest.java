@@ -0,0 +1,95 @@
+package com.hackaton.seven;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonlBatchTest {
+
+    private static Recommender recommender;
+
+    @BeforeAll
+    static void loadCatalog() throws IOException {
+        recommender = new Recommender(TestCatalogs.catalog(5_000, 2_000, SyntheticCatalog.DEFAULT_SEED));
+    }
+
+    @Test
+    void seededLinesReplayAsSinglePlans() throws Exception {
+        List<String> input = new ArrayList<>();
+        for (int i = 0; i < 3 * JsonlBatch.CHUNK_LINES + 17; i++) {
+            input.add(line(i, 42L + i));
+        }
+        List<String> output = run(input);
+
+        assertEquals(input.size(), output.size());
+        CatalogSnapshot catalog = recommender.snapshot();
+        for (int i = 0; i < input.size(); i++) {
+            UserProfile profile = ProfileJson.parse(input.get(i));
+            StringBuilder expected = new StringBuilder();
+            PlanRenderer.appendPlanJson(expected, recommender.generateCompactPlan(catalog, profile, 7,
+                    PlanOptions.defaults()), catalog);
+            assertEquals(expected.toString(), output.get(i), "line " + (i + 1));
+        }
+    }
+
+    @Test
+    void seedMatchesTheWeeklyPlan() throws Exception {
+        // The profile and seed of the /plan?seed= probe
+        String line = "{\"calories\":2000,\"equipment\":\"None\",\"intensity\":\"Medium\",\"seed\":42}";
+        Map<String, DailyPlan> week = recommender.generateWeeklyPlanWithExercise(2000, Set.of(), Set.of(),
+                "None", "Medium", 42);
+        StringBuilder expected = new StringBuilder();
+        PlanRenderer.appendPlanJson(expected, CompactPlan.of(recommender.snapshot(), 42, week), recommender.snapshot());
+        assertEquals(List.of(expected.toString()), run(List.of(line)));
+    }
+
+    @Test
+    void unseededLinesReportAReplayableSeed() throws Exception {
+        String line = "{\"calories\":1800,\"diet\":[\"vegetarian\"],\"allergies\":[\"nuts\"]}";
+        String output = run(List.of(line)).get(0);
+        assertTrue(output.startsWith("{\"seed\":"), output);
+        long seed = Long.parseLong(output.substring("{\"seed\":".length(), output.indexOf(',')));
+
+        UserProfile replay = new UserProfile(1800, Set.of("vegetarian"), Set.of("nuts"), "None", "Medium", seed);
+        StringBuilder expected = new StringBuilder();
+        CatalogSnapshot catalog = recommender.snapshot();
+        PlanRenderer.appendPlanJson(expected, recommender.generateCompactPlan(catalog, replay, 7,
+                PlanOptions.defaults()), catalog);
+        assertEquals(expected.toString(), output);
+    }
+
+    private static List<String> run(List<String> lines) throws Exception {
+        StringWriter out = new StringWriter();
+        try (PlanWriter writer = new PlanWriter(out, PlanRenderer.Format.JSON)) {
+            JsonlBatch batch = new JsonlBatch(recommender, ForkJoinPool.commonPool());
+            batch.run(new BufferedReader(new StringReader(String.join("\n", lines) + "\n")), writer);
+            assertEquals(0, batch.errors());
+        }
+        return out.toString().lines().toList();
+    }
+
+    private static String line(int i, long seed) {
+        String diet = switch (i % 4) {
+            case 0 -> "[\"vegan\"]";
+            case 1 -> "[\"gluten_free\",\"pescatarian\"]";
+            default -> "[]";
+        };
+        String include = i % 9 == 0 ? ",\"include\":[\"garlic\"]" : "";
+        return "{\"calories\":" + (1400 + (i * 53) % 1500) + ",\"diet\":" + diet
+                + ",\"allergies\":" + (i % 3 == 0 ? "[\"soy\"]" : "[]") + include
+                + ",\"equipment\":\"" + (i % 2 == 0 ? "None" : "Kettlebell") + "\",\"intensity\":\""
+                + Weights.INTENSITIES[i % 3] + "\",\"seed\":" + seed + "}";
+    }
+}
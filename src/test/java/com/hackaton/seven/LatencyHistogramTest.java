@@ -0,0 +1,114 @@
+package com.hackaton.seven;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    // 32 sub-buckets per power of two: a bucket is at most 1/32 of its lower edge wide
+    private static final double PRECISION = 1.0 / 32;
+
+    @Test
+    void bucketsTileTheValueRange() {
+        for (long v = 0; v < 32; v++) {
+            assertEquals(v, LatencyHistogram.index(v));
+            assertEquals(v, LatencyHistogram.highestEquivalent((int) v));
+        }
+        SplittableRandom random = new SplittableRandom(15);
+        for (int bits = 5; bits < 43; bits++) {
+            long power = 1L << bits;
+            for (long v : new long[]{power - 1, power, power + 1, power + random.nextLong(power)}) {
+                int index = LatencyHistogram.index(v);
+                // v lies in (upper edge of the previous bucket, upper edge of its own]
+                assertTrue(LatencyHistogram.highestEquivalent(index) >= v, "value " + v);
+                assertTrue(LatencyHistogram.highestEquivalent(index - 1) < v, "value " + v);
+                long lowest = LatencyHistogram.highestEquivalent(index - 1) + 1;
+                assertTrue(LatencyHistogram.highestEquivalent(index) - lowest + 1 <= Math.max(1, lowest * PRECISION),
+                        "bucket of " + v + " is too wide");
+            }
+            assertEquals(LatencyHistogram.index(power - 1) + 1, LatencyHistogram.index(power));
+        }
+    }
+
+    @Test
+    void percentilesOfAKnownSequence() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long v = 1; v <= 100_000; v++) {
+            histogram.record(v);
+        }
+        assertEquals(100_000, histogram.count());
+        assertEquals(100_000, histogram.max());
+        assertEquals(50_000.5, histogram.mean(), 1e-9);
+        assertWithinPrecision(50_000, histogram.percentile(0.50));
+        assertWithinPrecision(90_000, histogram.percentile(0.90));
+        assertWithinPrecision(99_000, histogram.percentile(0.99));
+        assertWithinPrecision(99_900, histogram.percentile(0.999));
+        // Never above the largest recorded value
+        assertEquals(100_000, histogram.percentile(1.0));
+    }
+
+    @Test
+    void percentilesOfRandomValuesStayWithinPrecision() {
+        SplittableRandom random = new SplittableRandom(16);
+        long[] values = new long[50_000];
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < values.length; i++) {
+            // Log-uniform from 1 us to 10 s in nanoseconds
+            values[i] = (long) Math.pow(10, random.nextDouble(3, 10));
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        for (double fraction : new double[]{0.01, 0.25, 0.5, 0.9, 0.99, 0.999, 0.9999}) {
+            long exact = values[(int) Math.ceil(fraction * values.length) - 1];
+            assertWithinPrecision(exact, histogram.percentile(fraction));
+        }
+        assertEquals(values[values.length - 1], histogram.max());
+        assertEquals(values[values.length - 1], histogram.percentile(1.0));
+    }
+
+    @Test
+    void clampsOutOfRangeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(2, histogram.count());
+        assertEquals(0, histogram.percentile(0.5));
+        assertEquals((1L << 43) - 1, histogram.max());
+        assertEquals((1L << 43) - 1, histogram.percentile(1.0));
+    }
+
+    @Test
+    void addAndReset() {
+        LatencyHistogram a = new LatencyHistogram();
+        LatencyHistogram b = new LatencyHistogram();
+        LatencyHistogram both = new LatencyHistogram();
+        for (long v = 1; v <= 1000; v++) {
+            (v % 3 == 0 ? a : b).record(v * 1000);
+            both.record(v * 1000);
+        }
+        a.add(b);
+        assertEquals(both.count(), a.count());
+        assertEquals(both.max(), a.max());
+        assertEquals(both.mean(), a.mean(), 1e-9);
+        for (double fraction : new double[]{0.1, 0.5, 0.99}) {
+            assertEquals(both.percentile(fraction), a.percentile(fraction));
+        }
+
+        a.reset();
+        assertEquals(0, a.count());
+        assertEquals(0, a.max());
+        assertEquals(0, a.percentile(0.5));
+    }
+
+    // The histogram reports a bucket's upper edge: never below the exact value, and above it by
+    // at most the bucket width.
+    private static void assertWithinPrecision(long exact, long reported) {
+        assertTrue(reported >= exact && reported <= exact + Math.max(1, exact * PRECISION),
+                "exact " + exact + ", reported " + reported);
+    }
+}
@@ -0,0 +1,147 @@
+package com.hackaton.seven;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MealRankingTest {
+
+    @Test
+    void topKKeepsTheLowestCosts() {
+        SplittableRandom random = new SplittableRandom(12);
+        for (int round = 0; round < 200; round++) {
+            int k = random.nextInt(0, 20);
+            double[] costs = new double[random.nextInt(0, 200)];
+            TopK best = new TopK(k);
+            for (int i = 0; i < costs.length; i++) {
+                // Few distinct values, so ties are common
+                costs[i] = random.nextInt(50);
+                best.offer(i, costs[i]);
+            }
+            double[] kept = new double[best.size()];
+            for (int i = 0; i < kept.length; i++) {
+                kept[i] = costs[best.position(i)];
+            }
+            Arrays.sort(kept);
+            double[] sorted = costs.clone();
+            Arrays.sort(sorted);
+            assertArrayEquals(Arrays.copyOf(sorted, Math.min(k, costs.length)), kept, "round " + round);
+            if (best.isFull() && k > 0) {
+                assertEquals(kept[kept.length - 1], best.worst());
+            }
+        }
+    }
+
+    @Test
+    void collectRankedMatchesAFullSort() {
+        SplittableRandom random = new SplittableRandom(34);
+        for (int round = 0; round < 300; round++) {
+            CandidatePool pool = randomPool(random, random.nextInt(1, 400));
+            MealRanking ranking = randomRanking(random);
+            double target = random.nextDouble(100, 1000);
+            Set<Integer> used = new HashSet<>();
+            VarietyTracker variety = null;
+            if (random.nextBoolean()) {
+                variety = VarietyTracker.sparse();
+                for (Recipe r : pool.recipes) {
+                    if (random.nextInt(4) == 0) {
+                        variety.use(r);
+                        used.add(r.id);
+                    }
+                }
+            }
+
+            Recipe[] out = new Recipe[ranking.topK];
+            int found = pool.collectRanked(target, ranking, out, variety);
+
+            // Ids equal pool positions
+            double[] expected = IntStream.range(0, pool.size())
+                    .filter(i -> !used.contains(i))
+                    .mapToDouble(i -> ranking.cost(pool, i, target))
+                    .sorted().limit(ranking.topK).toArray();
+            double[] actual = new double[found];
+            Set<Recipe> distinct = new HashSet<>();
+            for (int i = 0; i < found; i++) {
+                assertFalse(used.contains(out[i].id), "round " + round + " returned a used recipe");
+                assertTrue(distinct.add(out[i]));
+                actual[i] = ranking.cost(pool, out[i].id, target);
+            }
+            Arrays.sort(actual);
+            assertArrayEquals(expected, actual, 1e-9, "round " + round);
+        }
+    }
+
+    @Test
+    void rejectsNegativeWeightsAndTargets() {
+        assertNull(MealRanking.caloriesOnly().error());
+
+        MealRanking valid = MealRanking.caloriesOnly();
+        valid.balanceWeight = 2;
+        valid.proteinTarget = 0;
+        valid.topK = MealRanking.MAX_TOP_K;
+        assertNull(valid.error());
+
+        assertRejected(r -> r.balanceWeight = -0.5);
+        assertRejected(r -> r.balanceWeight = Double.NaN);
+        assertRejected(r -> r.balanceWeight = Double.POSITIVE_INFINITY);
+        assertRejected(r -> r.calorieWeight = -1);
+        assertRejected(r -> r.proteinWeight = -1);
+        assertRejected(r -> r.carbWeight = -1);
+        assertRejected(r -> r.proteinTarget = -10);
+        assertRejected(r -> r.carbTarget = Double.NEGATIVE_INFINITY);
+        assertRejected(r -> r.topK = 0);
+        assertRejected(r -> r.topK = MealRanking.MAX_TOP_K + 1);
+    }
+
+    private static void assertRejected(Consumer<MealRanking> change) {
+        MealRanking ranking = MealRanking.caloriesOnly();
+        change.accept(ranking);
+        assertNotNull(ranking.error());
+    }
+
+    // Non-negative weights and targets, as error() allows; each term is switched on at random.
+    private static MealRanking randomRanking(SplittableRandom random) {
+        MealRanking ranking = MealRanking.caloriesOnly();
+        ranking.topK = random.nextInt(1, 30);
+        ranking.calorieWeight = random.nextDouble(0, 3);
+        ranking.balanceWeight = random.nextInt(4) == 0 ? 0 : random.nextDouble(0, 200);
+        if (random.nextBoolean()) {
+            ranking.proteinTarget = random.nextDouble(0, 60);
+            ranking.proteinWeight = random.nextDouble(0, 5);
+        }
+        if (random.nextBoolean()) {
+            ranking.carbTarget = random.nextDouble(0, 100);
+            ranking.carbWeight = random.nextDouble(0, 5);
+        }
+        return ranking;
+    }
+
+    private static CandidatePool randomPool(SplittableRandom random, int size) {
+        double[] calories = new double[size];
+        for (int i = 0; i < size; i++) {
+            calories[i] = random.nextInt(100, 1000);
+        }
+        Arrays.sort(calories);
+        Recipe[] recipes = new Recipe[size];
+        for (int i = 0; i < size; i++) {
+            recipes[i] = new Recipe("recipe " + i, "lunch", List.of(), List.of(), calories[i],
+                    random.nextDouble(0, 120), random.nextDouble(0, 60), random.nextDouble(0, 40), List.of());
+            recipes[i].balance = random.nextDouble(-1, 1);
+            recipes[i].id = i;
+        }
+        return new CandidatePool(null, recipes);
+    }
+}
@@ -0,0 +1,83 @@
+package com.hackaton.seven;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class PlanStoreIndexTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void putReturnsThePreviousLocation() throws IOException {
+        try (PlanStoreIndex index = new PlanStoreIndex(directory.resolve("plans.idx"), 0)) {
+            assertEquals(0, index.get(42));
+            assertEquals(0, index.put(42, 7));
+            assertEquals(7, index.put(42, 9));
+            assertEquals(9, index.get(42));
+            assertEquals(1, index.size());
+        }
+    }
+
+    @Test
+    void growsPastSixtyPercentLoad() throws IOException {
+        Path file = directory.resolve("plans.idx");
+        // Starts at 65536 slots, so this doubles three times
+        int entries = 300_000;
+        try (PlanStoreIndex index = new PlanStoreIndex(file, 0)) {
+            long initialBytes = Files.size(file);
+            for (int i = 0; i < entries; i++) {
+                assertEquals(0, index.put(key(i), location(i)));
+            }
+            assertEquals(entries, index.size());
+            assertEquals(initialBytes * 8, Files.size(file));
+            assertFalse(Files.exists(directory.resolve("plans.idx.next")));
+
+            for (int i = 0; i < entries; i++) {
+                assertEquals(location(i), index.get(key(i)), "key " + key(i));
+            }
+            assertEquals(0, index.get(key(entries)));
+
+            // Replacing keeps the size
+            for (int i = 0; i < entries; i += 3) {
+                assertEquals(location(i), index.put(key(i), location(i) + 1));
+            }
+            assertEquals(entries, index.size());
+            assertEquals(location(3) + 1, index.get(key(3)));
+            assertEquals(location(4), index.get(key(4)));
+        }
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void sizesTheTableForExpectedEntries() throws IOException {
+        Path file = directory.resolve("plans.idx");
+        long smallBytes;
+        try (PlanStoreIndex small = new PlanStoreIndex(file, 0)) {
+            smallBytes = Files.size(file);
+            assertEquals(0, small.size());
+        }
+        try (PlanStoreIndex large = new PlanStoreIndex(file, 1_000_000)) {
+            // 1M entries need 2^21 slots to stay under 60% load, 32 times the minimum
+            assertEquals(smallBytes << 5, Files.size(file));
+            assertEquals(0, large.size());
+        }
+    }
+
+    // Spread over the whole key range, negative and zero included
+    private static long key(int i) {
+        return (i - 1000L) * 0x9e3779b97f4a7c15L;
+    }
+
+    // Never 0, which marks an empty slot
+    private static long location(int i) {
+        return ((long) (i / 100 + 1) << 32) | (i % 100);
+    }
+}
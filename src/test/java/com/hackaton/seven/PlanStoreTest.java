@@ -0,0 +1,174 @@
+package com.hackaton.seven;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlanStoreTest {
+
+    private static final int RECORDS_PER_SEGMENT = 100;
+    private static final long SEGMENT_BYTES = 64 + (long) RECORDS_PER_SEGMENT * StoredPlan.RECORD_BYTES;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripsAWeek() throws IOException {
+        try (PlanStore store = PlanStore.open(directory, SEGMENT_BYTES)) {
+            assertNull(store.get(7));
+            store.put(7, plan(7, 1));
+            StoredPlan stored = store.get(7);
+            assertEquals(7, stored.user());
+            assertEquals(seed(7, 1), stored.seed());
+            assertEquals(fingerprint(1), stored.catalogFingerprint());
+            assertPlan(7, 1, stored.plan());
+        }
+    }
+
+    @Test
+    void rejectsPlansOtherThanAWeek() throws IOException {
+        try (PlanStore store = PlanStore.open(directory, SEGMENT_BYTES)) {
+            CompactPlan day = new CompactPlan(1, 1, new int[CompactPlan.SLOTS_PER_DAY]);
+            assertThrows(IllegalArgumentException.class, () -> store.put(1, day));
+            assertEquals(0, store.size());
+        }
+    }
+
+    @Test
+    void latestRecordWinsAcrossSegments() throws IOException {
+        try (PlanStore store = PlanStore.open(directory, SEGMENT_BYTES)) {
+            putUsers(store, 0, 250, 1);
+            putUsers(store, 0, 50, 2);
+            assertEquals(3, store.segmentCount());
+            assertEquals(250, store.size());
+            assertUsers(store, 0, 50, 2);
+            assertUsers(store, 50, 250, 1);
+
+            // Same user several times inside one segment
+            store.put(120, plan(120, 3));
+            store.put(120, plan(120, 4));
+            assertPlan(120, 4, store.get(120).plan());
+            assertEquals(250, store.size());
+        }
+    }
+
+    @Test
+    void compactionKeepsOnlyLiveRecords() throws IOException {
+        try (PlanStore store = PlanStore.open(directory, SEGMENT_BYTES)) {
+            // Segment 1 holds users 0..99; 80 of them are put again into segment 2
+            putUsers(store, 0, RECORDS_PER_SEGMENT, 1);
+            putUsers(store, 0, 80, 2);
+            StoredPlan before = store.get(90);
+            assertEquals(2, store.segmentCount());
+
+            assertEquals(1, store.compact());
+            assertEquals(1, store.segmentCount());
+            assertFalse(Files.exists(directory.resolve("plans-000001.seg")));
+            assertEquals(RECORDS_PER_SEGMENT, store.size());
+            assertUsers(store, 0, 80, 2);
+            assertUsers(store, 80, RECORDS_PER_SEGMENT, 1);
+            // Views handed out before the compaction stay readable
+            assertPlan(90, 1, before.plan());
+
+            // The 20 moved records filled segment 2, so later puts go to segment 3
+            store.put(85, plan(85, 3));
+            assertEquals(2, store.segmentCount());
+            assertPlan(85, 3, store.get(85).plan());
+
+            // The active segment is never compacted, and nothing else is mostly superseded now
+            assertEquals(0, store.compact());
+        }
+        try (PlanStore reopened = PlanStore.open(directory, SEGMENT_BYTES)) {
+            assertEquals(RECORDS_PER_SEGMENT, reopened.size());
+            assertUsers(reopened, 0, 80, 2);
+            assertPlan(85, 3, reopened.get(85).plan());
+            assertPlan(99, 1, reopened.get(99).plan());
+        }
+    }
+
+    @Test
+    void reopenRebuildsTheIndexFromSegments() throws IOException {
+        try (PlanStore store = PlanStore.open(directory, SEGMENT_BYTES)) {
+            putUsers(store, 0, 150, 1);
+            putUsers(store, 100, 130, 2);
+        }
+        try (PlanStore reopened = PlanStore.open(directory, SEGMENT_BYTES)) {
+            assertEquals(2, reopened.segmentCount());
+            assertEquals(150, reopened.size());
+            assertUsers(reopened, 0, 100, 1);
+            assertUsers(reopened, 100, 130, 2);
+            assertUsers(reopened, 130, 150, 1);
+
+            // Appends continue in the last segment, which still has room
+            reopened.put(1000, plan(1000, 1));
+            assertEquals(2, reopened.segmentCount());
+        }
+        try (PlanStore reopened = PlanStore.open(directory, SEGMENT_BYTES)) {
+            assertEquals(151, reopened.size());
+            assertPlan(1000, 1, reopened.get(1000).plan());
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            // The scratch index is removed on close
+            assertTrue(files.allMatch(f -> f.getFileName().toString().endsWith(".seg")));
+        }
+    }
+
+    @Test
+    void rejectsForeignSegments() throws IOException {
+        Files.write(directory.resolve("plans-000001.seg"), new byte[128]);
+        assertThrows(IOException.class, () -> PlanStore.open(directory, SEGMENT_BYTES));
+    }
+
+    private static void putUsers(PlanStore store, long from, long to, int version) throws IOException {
+        for (long user = from; user < to; user++) {
+            store.put(user, plan(user, version));
+        }
+    }
+
+    private static void assertUsers(PlanStore store, long from, long to, int version) {
+        for (long user = from; user < to; user++) {
+            StoredPlan stored = store.get(user);
+            assertEquals(user, stored.user());
+            assertPlan(user, version, stored.plan());
+        }
+    }
+
+    // A week whose ids, seed and fingerprint identify the user and the version of their plan.
+    private static CompactPlan plan(long user, int version) {
+        int[] ids = new int[StoredPlan.DAYS * CompactPlan.SLOTS_PER_DAY];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i % 11 == 0 ? -1 : (int) (user * 1000 + version * 100 + i);
+        }
+        return new CompactPlan(seed(user, version), fingerprint(version), ids);
+    }
+
+    private static void assertPlan(long user, int version, CompactPlan actual) {
+        CompactPlan expected = plan(user, version);
+        assertEquals(expected.seed, actual.seed);
+        assertEquals(expected.catalogFingerprint, actual.catalogFingerprint);
+        assertEquals(StoredPlan.DAYS, actual.days());
+        for (int day = 0; day < StoredPlan.DAYS; day++) {
+            for (PlanSlot slot : PlanSlot.values()) {
+                assertEquals(expected.id(day, slot), actual.id(day, slot), "user " + user + " day " + day + " " + slot);
+            }
+        }
+    }
+
+    private static long seed(long user, int version) {
+        return user * 31 + version;
+    }
+
+    private static long fingerprint(int version) {
+        return 0x5eed0000L + version;
+    }
+}
@@ -0,0 +1,98 @@
+package com.hackaton.seven;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecipeBitmapIndexTest {
+
+    // Enough rows per meal type to span several bitmap groups
+    private static final int RECIPES = 300_000;
+
+    private static RecipeIndex index;
+
+    @BeforeAll
+    static void buildIndex() throws IOException {
+        index = new RecipeIndex(TestCatalogs.recipes(RECIPES, SyntheticCatalog.DEFAULT_SEED));
+    }
+
+    @Test
+    void includeMatchesScan() {
+        assertMatchesScan("lunch", Set.of(), Set.of(), Set.of("olive oil"), Set.of());
+        assertMatchesScan("dinner", Set.of(), Set.of(), Set.of("chicken breast", "garlic"), Set.of());
+        assertMatchesScan("breakfast", Set.of("vegan"), Set.of(), Set.of("spinach"), Set.of());
+    }
+
+    @Test
+    void excludeMatchesScan() {
+        assertMatchesScan("lunch", Set.of(), Set.of(), Set.of(), Set.of("spinach"));
+        assertMatchesScan("dinner", Set.of("gluten_free"), Set.of("dairy", "nuts"), Set.of(), Set.of("olive oil", "garlic"));
+    }
+
+    @Test
+    void includeAndExcludeMatchScan() {
+        assertMatchesScan("dinner", Set.of("vegetarian"), Set.of("soy"), Set.of("garlic"), Set.of("spinach"));
+        assertMatchesScan("lunch", Set.of("pescatarian"), Set.of("shellfish"), Set.of("lemon", "brown rice"),
+                Set.of("butter"));
+        // A rare ingredient leaves only sparse groups
+        assertMatchesScan("breakfast", Set.of(), Set.of(), Set.of("wild okra"), Set.of("olive oil"));
+    }
+
+    private static void assertMatchesScan(String mealType, Set<String> diet, Set<String> allergies,
+                                          Set<String> include, Set<String> exclude) {
+        RestrictionMask mask = index.compile(diet, allergies, include, exclude);
+        assertTrue(mask.hasIngredients());
+        Recipe[] expected = scan(index.recipes(mealType), mask);
+        assertTrue(expected.length > 0, "query should match something");
+        assertArrayEquals(expected, index.filter(mealType, mask).recipes,
+                mealType + " " + diet + " " + allergies + " +" + include + " -" + exclude);
+    }
+
+    // Every recipe of the meal type checked against the mask, in the index's calorie order.
+    private static Recipe[] scan(Recipe[] recipes, RestrictionMask mask) {
+        List<Recipe> matching = new ArrayList<>();
+        for (Recipe r : recipes) {
+            if ((r.dietMask & mask.requiredDiet) == mask.requiredDiet
+                    && (r.allergyMask & mask.excludedAllergies) == 0
+                    && containsAll(r.ingredientIds, mask.includedIngredients)
+                    && containsNone(r.ingredientIds, mask.excludedIngredients)) {
+                matching.add(r);
+            }
+        }
+        return matching.toArray(new Recipe[0]);
+    }
+
+    private static boolean containsAll(int[] ids, int[] wanted) {
+        for (int w : wanted) {
+            if (!contains(ids, w)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsNone(int[] ids, int[] unwanted) {
+        for (int u : unwanted) {
+            if (contains(ids, u)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contains(int[] ids, int id) {
+        for (int i : ids) {
+            if (i == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,149 @@
+package com.hackaton.seven;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecipeBitmapTest {
+
+    @Test
+    void groupSwitchesToBitsetPast4096Positions() {
+        RecipeBitmap atLimit = build(range(0, 4096));
+        assertEquals(4096, atLimit.cardinality());
+        assertEquals(0, atLimit.bitsetContainers());
+        assertArrayEquals(range(0, 4096), atLimit.toArray());
+
+        RecipeBitmap pastLimit = build(range(0, 4097));
+        assertEquals(4097, pastLimit.cardinality());
+        assertEquals(1, pastLimit.bitsetContainers());
+        assertArrayEquals(range(0, 4097), pastLimit.toArray());
+    }
+
+    @Test
+    void denseResultsFallBackToArrays() {
+        RecipeBitmap evens = build(step(0, 1 << 16, 2));
+        RecipeBitmap multiplesOf16 = build(step(0, 1 << 16, 16));
+        RecipeBitmap low = build(range(0, 8192));
+        assertEquals(1, evens.bitsetContainers());
+        assertEquals(1, low.bitsetContainers());
+
+        // 4096 evens below 8192: small enough for an array again
+        RecipeBitmap and = evens.and(low);
+        assertEquals(0, and.bitsetContainers());
+        assertArrayEquals(step(0, 8192, 2), and.toArray());
+
+        // 28672 evens at or above 8192 stay a bitset
+        RecipeBitmap andNot = evens.andNot(low);
+        assertEquals(1, andNot.bitsetContainers());
+        assertArrayEquals(step(8192, 1 << 16, 2), andNot.toArray());
+
+        // Array minus bitset, and bitset minus array
+        assertSame(RecipeBitmap.EMPTY, multiplesOf16.andNot(evens));
+        assertArrayEquals(step(0, 8192, 16), multiplesOf16.and(low).toArray());
+        assertArrayEquals(step(1, 8192, 2), low.andNot(evens).toArray());
+    }
+
+    @Test
+    void andAndAndNotMatchBitSetAcrossContainerKinds() {
+        SplittableRandom random = new SplittableRandom(18);
+        for (int round = 0; round < 100; round++) {
+            BitSet a = randomSet(random);
+            BitSet b = randomSet(random);
+            RecipeBitmap x = build(a.stream().toArray());
+            RecipeBitmap y = build(b.stream().toArray());
+
+            BitSet and = (BitSet) a.clone();
+            and.and(b);
+            BitSet andNot = (BitSet) a.clone();
+            andNot.andNot(b);
+
+            assertArrayEquals(and.stream().toArray(), x.and(y).toArray(), "and, round " + round);
+            assertArrayEquals(and.stream().toArray(), y.and(x).toArray(), "and reversed, round " + round);
+            assertEquals(and.cardinality(), x.and(y).cardinality());
+            assertArrayEquals(andNot.stream().toArray(), x.andNot(y).toArray(), "andNot, round " + round);
+            assertEquals(andNot.cardinality(), x.andNot(y).cardinality());
+        }
+    }
+
+    @Test
+    void toArrayShiftsEachGroupByItsHighKey() {
+        int[] positions = {
+                3, 65535,
+                1 << 16, (1 << 16) + 7,
+                (5 << 16) + 1234,
+                (30000 << 16) + 42, (30000 << 16) + 65535,
+                Integer.MAX_VALUE,
+        };
+        RecipeBitmap sparse = build(positions);
+        assertEquals(0, sparse.bitsetContainers());
+        assertArrayEquals(positions, sparse.toArray());
+
+        // Groups 2 and 30000 as bitsets
+        int[] dense = concat(step(2 << 16, (3 << 16) - 1, 3), step(30000 << 16, (30001 << 16) - 1, 5));
+        RecipeBitmap bitsets = build(dense);
+        assertEquals(2, bitsets.bitsetContainers());
+        assertArrayEquals(dense, bitsets.toArray());
+    }
+
+    @Test
+    void emptyOperands() {
+        RecipeBitmap some = build(range(10, 20));
+        assertTrue(RecipeBitmap.EMPTY.isEmpty());
+        assertSame(RecipeBitmap.EMPTY, some.and(RecipeBitmap.EMPTY));
+        assertSame(some, some.andNot(RecipeBitmap.EMPTY));
+        assertSame(RecipeBitmap.EMPTY, some.andNot(some));
+        assertSame(RecipeBitmap.EMPTY, new RecipeBitmap.Builder().build());
+    }
+
+    // Eight groups, each empty, sparse, around the 4096 switchover or dense.
+    private static BitSet randomSet(SplittableRandom random) {
+        BitSet set = new BitSet();
+        for (int key = 0; key < 8; key++) {
+            double density = switch (random.nextInt(4)) {
+                case 0 -> 0;
+                case 1 -> random.nextDouble(0.001, 0.06);
+                case 2 -> random.nextDouble(0.06, 0.07);
+                default -> random.nextDouble(0.2, 1);
+            };
+            for (int low = 0; low < 1 << 16; low++) {
+                if (random.nextDouble() < density) {
+                    set.set((key << 16) | low);
+                }
+            }
+        }
+        return set;
+    }
+
+    private static RecipeBitmap build(int[] positions) {
+        RecipeBitmap.Builder builder = new RecipeBitmap.Builder();
+        for (int position : positions) {
+            builder.add(position);
+        }
+        return builder.build();
+    }
+
+    private static int[] range(int from, int to) {
+        return step(from, to, 1);
+    }
+
+    private static int[] step(int from, int to, int step) {
+        int[] out = new int[(to - from + step - 1) / step];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = from + i * step;
+        }
+        return out;
+    }
+
+    private static int[] concat(int[] a, int[] b) {
+        int[] out = new int[a.length + b.length];
+        System.arraycopy(a, 0, out, 0, a.length);
+        System.arraycopy(b, 0, out, a.length, b.length);
+        return out;
+    }
+}
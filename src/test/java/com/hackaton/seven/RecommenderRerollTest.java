@@ -0,0 +1,139 @@
+package com.hackaton.seven;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecommenderRerollTest {
+
+    private static final double CALORIES = 1700;
+    private static final double TOLERANCE = 100;
+    private static final int WINDOW = 3;
+
+    private static Recommender recommender;
+
+    @BeforeAll
+    static void loadCatalog() throws IOException {
+        recommender = new Recommender(TestCatalogs.catalog(5_000, 2_000, SyntheticCatalog.DEFAULT_SEED));
+    }
+
+    @Test
+    void rerolledMealDiffersAndKeepsWindowAndTolerance() {
+        CatalogSnapshot catalog = recommender.snapshot();
+        UserProfile profile = profile();
+        PlanOptions options = options();
+        CompactPlan plan = recommender.generateCompactPlan(catalog, profile, 7, options);
+
+        for (int day = 1; day <= 7; day++) {
+            assertTrue(Math.abs(mealCalories(catalog, plan, day - 1) - CALORIES) <= TOLERANCE,
+                    "generated day " + day + " should be inside the tolerance");
+            for (PlanSlot slot : PlanSlot.MEALS) {
+                CompactPlan rerolled = recommender.rerollSlot(catalog, plan, day, slot, profile, options,
+                        new SplittableRandom(day * 10L + slot.ordinal()));
+                int replacement = rerolled.id(day - 1, slot);
+
+                assertNotEquals(plan.id(day - 1, slot), replacement, "day " + day + " " + slot);
+                assertOnlySlotChanged(plan, rerolled, day - 1, slot);
+                assertTrue(Math.abs(mealCalories(catalog, rerolled, day - 1) - CALORIES) <= TOLERANCE,
+                        "day " + day + " " + slot + " left the tolerance");
+                assertNotServedNearby(rerolled, day - 1, slot, replacement, PlanSlot.MEALS);
+            }
+        }
+    }
+
+    @Test
+    void rerolledExerciseDiffersAndKeepsWindow() {
+        CatalogSnapshot catalog = recommender.snapshot();
+        UserProfile profile = profile();
+        PlanOptions options = options();
+        CompactPlan plan = recommender.generateCompactPlan(catalog, profile, 7, options);
+        PlanSlot[] exercises = {PlanSlot.UPPER_BODY, PlanSlot.LOWER_BODY, PlanSlot.CORE, PlanSlot.CARDIO};
+
+        for (int day = 1; day <= 7; day++) {
+            for (PlanSlot slot : exercises) {
+                CompactPlan rerolled = recommender.rerollSlot(catalog, plan, day, slot, profile, options,
+                        new SplittableRandom(day * 10L + slot.ordinal()));
+                int replacement = rerolled.id(day - 1, slot);
+
+                assertNotEquals(plan.id(day - 1, slot), replacement, "day " + day + " " + slot);
+                assertOnlySlotChanged(plan, rerolled, day - 1, slot);
+                assertNotServedNearby(rerolled, day - 1, slot, replacement, exercises);
+                Exercise picked = catalog.catalog.exercises.get(replacement);
+                assertEquals(slot.key, picked.category);
+                assertTrue(picked.matches(profile.equipment, profile.intensity));
+            }
+        }
+    }
+
+    @Test
+    void rejectsPlansFromAnotherCatalog() throws IOException {
+        Recommender reloading = new Recommender(TestCatalogs.catalog(500, 200, 1));
+        CatalogSnapshot before = reloading.snapshot();
+        CompactPlan plan = reloading.generateCompactPlan(before, profile(), 7, options());
+
+        reloading.reload(TestCatalogs.catalog(500, 200, 2));
+        assertThrows(IllegalArgumentException.class, () -> reloading.rerollSlot(reloading.snapshot(), plan, 1,
+                PlanSlot.LUNCH, profile(), options()));
+        // Against the snapshot it came from, the plan can still be re-rolled
+        CompactPlan rerolled = reloading.rerollSlot(before, plan, 1, PlanSlot.LUNCH, profile(), options());
+        assertNotEquals(plan.id(0, PlanSlot.LUNCH), rerolled.id(0, PlanSlot.LUNCH));
+    }
+
+    @Test
+    void rejectsDaysOutsideThePlan() {
+        CatalogSnapshot catalog = recommender.snapshot();
+        CompactPlan plan = recommender.generateCompactPlan(catalog, profile(), 7, options());
+        assertThrows(IllegalArgumentException.class,
+                () -> recommender.rerollSlot(catalog, plan, 0, PlanSlot.LUNCH, profile(), options()));
+        assertThrows(IllegalArgumentException.class,
+                () -> recommender.rerollSlot(catalog, plan, 8, PlanSlot.LUNCH, profile(), options()));
+    }
+
+    private static void assertOnlySlotChanged(CompactPlan before, CompactPlan after, int day, PlanSlot slot) {
+        for (int d = 0; d < before.days(); d++) {
+            for (PlanSlot other : PlanSlot.values()) {
+                if (d != day || other != slot) {
+                    assertEquals(before.id(d, other), after.id(d, other), "day " + (d + 1) + " " + other);
+                }
+            }
+        }
+    }
+
+    // No slot of the same kind within WINDOW days of day serves id.
+    private static void assertNotServedNearby(CompactPlan plan, int day, PlanSlot slot, int id, PlanSlot[] kind) {
+        for (int d = Math.max(0, day - WINDOW + 1); d <= Math.min(plan.days() - 1, day + WINDOW - 1); d++) {
+            for (PlanSlot other : kind) {
+                if (d != day || other != slot) {
+                    assertNotEquals(id, plan.id(d, other), "day " + (day + 1) + " " + slot
+                            + " repeats day " + (d + 1) + " " + other);
+                }
+            }
+        }
+    }
+
+    private static double mealCalories(CatalogSnapshot catalog, CompactPlan plan, int day) {
+        double total = 0;
+        for (PlanSlot slot : PlanSlot.MEALS) {
+            total += plan.recipe(catalog, day, slot).calories;
+        }
+        return total;
+    }
+
+    private static UserProfile profile() {
+        return new UserProfile(CALORIES, Set.of(), Set.of(), "None", "Medium", 7L);
+    }
+
+    private static PlanOptions options() {
+        PlanOptions options = PlanOptions.wholeDay(TOLERANCE);
+        options.noRepeatDays = WINDOW;
+        return options;
+    }
+}
@@ -0,0 +1,31 @@
+package com.hackaton.seven;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+// Synthetic catalogs for tests, generated in memory and read back through the CSV loader so they
+// look exactly like catalogs loaded from disk.
+final class TestCatalogs {
+
+    private TestCatalogs() {
+    }
+
+    static Catalog catalog(int recipes, int exercises, long seed) throws IOException {
+        return new Catalog(recipes(recipes, seed), exercises(exercises, seed));
+    }
+
+    static List<Recipe> recipes(int count, long seed) throws IOException {
+        StringWriter csv = new StringWriter();
+        SyntheticCatalog.writeRecipes(csv, count, seed);
+        return CatalogCsv.readRecipes(new BufferedReader(new StringReader(csv.toString())));
+    }
+
+    static List<Exercise> exercises(int count, long seed) throws IOException {
+        StringWriter csv = new StringWriter();
+        SyntheticCatalog.writeExercises(csv, count, seed);
+        return CatalogCsv.readExercises(new BufferedReader(new StringReader(csv.toString())));
+    }
+}
@@ -0,0 +1,140 @@
+package com.hackaton.seven;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VarietyTrackerTest {
+
+    @Test
+    void itemsComeBackWhenTheirDayLeavesTheWindow() {
+        VarietyTracker variety = new VarietyTracker(100, 100, 3);
+        Recipe soup = recipe(7);
+        Exercise plank = exercise(7);
+
+        variety.startDay();
+        variety.use(soup);
+        variety.startDay();
+        variety.use(plank);
+        // Days 0 and 1 are still inside the window on day 2
+        variety.startDay();
+        assertTrue(variety.isUsed(soup));
+        assertTrue(variety.isUsed(plank));
+        // Day 3 evicts day 0's ring slot, day 4 evicts day 1's
+        variety.startDay();
+        assertFalse(variety.isUsed(soup));
+        assertTrue(variety.isUsed(plank));
+        variety.startDay();
+        assertFalse(variety.isUsed(plank));
+    }
+
+    @Test
+    void repeatedItemsStayUntilTheirLatestUseExpires() {
+        VarietyTracker variety = new VarietyTracker(100, 100, 3);
+        Recipe soup = recipe(7);
+        variety.startDay();
+        variety.use(soup);
+        variety.startDay();
+        variety.use(soup);
+
+        variety.startDay();
+        variety.startDay();
+        // Day 0's use has expired, day 1's has not
+        assertTrue(variety.isUsed(soup));
+        variety.startDay();
+        assertFalse(variety.isUsed(soup));
+
+        // Used again after expiring, the item follows the ring as usual
+        variety.use(soup);
+        for (int day = 0; day < 2; day++) {
+            variety.startDay();
+            assertTrue(variety.isUsed(soup));
+        }
+        variety.startDay();
+        assertFalse(variety.isUsed(soup));
+    }
+
+    @Test
+    void recipesAndExercisesHaveSeparateIds() {
+        VarietyTracker variety = new VarietyTracker(10, 10, 2);
+        variety.startDay();
+        variety.use(recipe(3));
+        assertTrue(variety.isUsed(recipe(3)));
+        assertFalse(variety.isUsed(exercise(3)));
+    }
+
+    @Test
+    void placeholdersAreNeverUsed() {
+        VarietyTracker variety = new VarietyTracker(10, 10, 2);
+        variety.startDay();
+        Recipe meal = Recipe.placeholder("lunch");
+        Exercise move = Exercise.placeholder("core", "None", "Low");
+        variety.use(meal);
+        variety.use(move);
+        assertFalse(variety.isUsed(meal));
+        assertFalse(variety.isUsed(move));
+    }
+
+    @Test
+    void wholePlanNeverExpires() {
+        VarietyTracker variety = new VarietyTracker(10, 10, VarietyTracker.WHOLE_PLAN);
+        variety.startDay();
+        variety.use(recipe(1));
+        for (int day = 0; day < 1000; day++) {
+            variety.startDay();
+        }
+        assertTrue(variety.isUsed(recipe(1)));
+    }
+
+    @Test
+    void sparseTrackerGrowsPastItsInitialSize() {
+        VarietyTracker taken = VarietyTracker.sparse();
+        for (int id = 0; id < 40; id += 2) {
+            taken.use(recipe(id));
+            taken.use(exercise(id + 1));
+        }
+        for (int id = 0; id < 40; id++) {
+            assertEquals(id % 2 == 0, taken.isUsed(recipe(id)), "recipe " + id);
+            assertEquals(id % 2 == 1, taken.isUsed(exercise(id)), "exercise " + id);
+        }
+    }
+
+    @Test
+    void windowsLongerThanThePlanAreBoundedByIt() throws IOException {
+        Recommender recommender = new Recommender(TestCatalogs.catalog(5_000, 2_000, SyntheticCatalog.DEFAULT_SEED));
+        PlanOptions options = PlanOptions.defaults();
+        // A ring this long would need gigabytes; the planner tracks the whole plan instead
+        options.noRepeatDays = 200_000_000;
+        UserProfile profile = new UserProfile(2000, Set.of(), Set.of(), "None", "Medium", 5L);
+        CompactPlan plan = recommender.generateCompactPlan(recommender.snapshot(), profile, 30, options);
+
+        Set<Integer> recipes = new HashSet<>();
+        Set<Integer> exercises = new HashSet<>();
+        for (int day = 0; day < plan.days(); day++) {
+            for (PlanSlot slot : PlanSlot.values()) {
+                int id = plan.id(day, slot);
+                assertTrue(id >= 0, "day " + (day + 1) + " " + slot + " fell back");
+                assertTrue((slot.isMeal() ? recipes : exercises).add(id), "day " + (day + 1) + " " + slot + " repeats");
+            }
+        }
+    }
+
+    private static Recipe recipe(int id) {
+        Recipe r = new Recipe("recipe " + id, "lunch", List.of(), List.of(), 500, 0, 0, 0, List.of());
+        r.id = id;
+        return r;
+    }
+
+    private static Exercise exercise(int id) {
+        Exercise e = new Exercise("exercise " + id, "None", "Low", "core");
+        e.id = id;
+        return e;
+    }
+}